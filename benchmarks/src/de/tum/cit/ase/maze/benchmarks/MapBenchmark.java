@@ -0,0 +1,98 @@
+package de.tum.cit.ase.maze.benchmarks;
+
+import de.tum.cit.ase.maze.InputState;
+import de.tum.cit.ase.maze.MazeGrid;
+import de.tum.cit.ase.maze.MazeLoader;
+import de.tum.cit.ase.maze.MazeModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading and simulating the maze files under maps/.
+ * The maps directory can be changed with the system property "maze.maps".
+ * The map names (file names without .properties) are not listed here: the Gradle task
+ * benchmarks:jmh passes every maze file in maps/ with -p map=..., so new maps are
+ * benchmarked without changing this class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapBenchmark {
+
+    @Param
+    public String map; // set by -p map=..., see benchmarks/build.gradle
+
+    private String propertiesPath;
+    private File binaryFile;
+    private MazeGrid grid;
+    private MazeModel model;
+    private final InputState input = new InputState();
+
+    @Setup
+    public void setUp() throws IOException {
+        propertiesPath = new File(System.getProperty("maze.maps", "maps"), map + MazeLoader.PROPERTIES_EXTENSION).getPath();
+        grid = MazeLoader.loadProperties(propertiesPath);
+
+        binaryFile = File.createTempFile(map, MazeLoader.BINARY_EXTENSION);
+        MazeLoader.writeBinary(grid, binaryFile.getPath());
+
+        model = new MazeModel(grid);
+    }
+
+    @TearDown
+    public void tearDown() {
+        binaryFile.delete();
+    }
+
+    /**
+     * Parsing a .properties maze file.
+     */
+    @Benchmark
+    public MazeGrid loadProperties() throws IOException {
+        return MazeLoader.loadProperties(propertiesPath);
+    }
+
+    /**
+     * Reading the same maze from the binary .maze format.
+     */
+    @Benchmark
+    public MazeGrid loadBinary() throws IOException {
+        return MazeLoader.loadBinary(binaryFile.getPath());
+    }
+
+    /**
+     * Creating all game elements and classifying the walls of the maze.
+     */
+    @Benchmark
+    public MazeModel buildModel() {
+        return new MazeModel(grid);
+    }
+
+    /**
+     * One simulation step at 60 fps. The character stands still and never runs out of
+     * lives, so every step does the full amount of work.
+     */
+    @Benchmark
+    public MazeModel step() {
+        model.getCharacter().setCharacterLives(3);
+        model.step(1 / 60f, input);
+        return model;
+    }
+}
@@ -0,0 +1,197 @@
+package de.tum.cit.ase.maze.benchmarks;
+
+import de.tum.cit.ase.maze.Character;
+import de.tum.cit.ase.maze.CoordinateArray;
+import de.tum.cit.ase.maze.Enemy;
+import de.tum.cit.ase.maze.FlowField;
+import de.tum.cit.ase.maze.Hitbox;
+import de.tum.cit.ase.maze.InputState;
+import de.tum.cit.ase.maze.InteractionIndex;
+import de.tum.cit.ase.maze.LineOfSight;
+import de.tum.cit.ase.maze.MazeGrid;
+import de.tum.cit.ase.maze.MazeModel;
+import de.tum.cit.ase.maze.WallManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the simulation hot paths on generated mazes of up to 2000x2000 cells
+ * with varying enemy count and wall density.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SyntheticMazeBenchmark {
+
+    private static final int QUERIES = 1024; // number of precomputed wall collision queries
+
+    @Param({"100", "500", "2000"})
+    public int size;
+
+    @Param({"10", "100", "1000"})
+    public int enemyCount;
+
+    @Param({"0.2", "0.4"})
+    public double wallDensity;
+
+    private MazeGrid grid;
+    private MazeModel model;
+    private WallManager wallManager;
+    private Character character;
+    private List<Enemy> enemies;
+    private FlowField flowField;
+    private InteractionIndex interactions; // one pickup on every tenth tile of the maze
+    private LineOfSight lineOfSight; // without a distance limit, so every ray walks to the character
+    private boolean shifted; // whether the flow field was last computed for the shifted character position
+    private final InputState input = new InputState();
+
+    private final float[] queryX = new float[QUERIES];
+    private final float[] queryY = new float[QUERIES];
+    private int nextQuery;
+
+    @Setup
+    public void setUp() {
+        grid = SyntheticMazes.generate(size, enemyCount, wallDensity, 42L);
+        model = new MazeModel(grid);
+        wallManager = model.getWallManager();
+        character = model.getCharacter();
+        enemies = model.getEnemies();
+        flowField = model.getFlowField();
+        flowField.update(character.getX(), character.getY());
+
+        Random random = new Random(7L);
+        for (int i = 0; i < QUERIES; i++) {
+            queryX[i] = random.nextFloat() * size * WallManager.TILE_SIZE;
+            queryY[i] = random.nextFloat() * size * WallManager.TILE_SIZE;
+        }
+
+        CoordinateArray pickups = new CoordinateArray();
+        for (int i = 0; i < size * size / 10; i++) {
+            pickups.add(random.nextInt(size) * WallManager.TILE_SIZE, random.nextInt(size) * WallManager.TILE_SIZE);
+        }
+        interactions = new InteractionIndex(size, size);
+        interactions.addAll(InteractionIndex.KEY, pickups);
+        lineOfSight = new LineOfSight(wallManager, 2 * size);
+    }
+
+    /**
+     * Creating all game elements and classifying the walls of the maze.
+     */
+    @Benchmark
+    public MazeModel buildModel() {
+        return new MazeModel(grid);
+    }
+
+    /**
+     * One simulation step at 60 fps, including the enemy movement and direction updates.
+     */
+    @Benchmark
+    public MazeModel step() {
+        character.setCharacterLives(3);
+        model.step(1 / 60f, input);
+        return model;
+    }
+
+    /**
+     * Same as step, but the enemies are moved in parallel on the common pool once there are enough of them.
+     */
+    @Benchmark
+    public MazeModel stepParallel() {
+        model.setEnemyPool(ForkJoinPool.commonPool());
+        character.setCharacterLives(3);
+        model.step(1 / 60f, input);
+        return model;
+    }
+
+    /**
+     * A single wall collision query at a random position of the maze.
+     * Allocation free, gc.alloc.rate.norm is expected to be 0 B/op.
+     */
+    @Benchmark
+    public boolean wallCollision() {
+        int query = nextQuery;
+        nextQuery = (query + 1) & (QUERIES - 1);
+        return wallManager.wallCollision(queryX[query], queryY[query]);
+    }
+
+    /**
+     * Collision checks of the character against every enemy, as done once per frame.
+     * Allocation free, gc.alloc.rate.norm is expected to be 0 B/op.
+     */
+    @Benchmark
+    public void detectCollision(Blackhole blackhole) {
+        for (Enemy enemy : enemies) {
+            blackhole.consume(character.detectCollision(enemy.getX(), enemy.getY()));
+        }
+    }
+
+    /**
+     * Looking up the pickups touched by the character at a random position of the maze, as done
+     * once per step. Only the tiles under the hitbox are checked, whatever the number of pickups.
+     * Allocation free, gc.alloc.rate.norm is expected to be 0 B/op.
+     */
+    @Benchmark
+    public int interactionQuery() {
+        int query = nextQuery;
+        nextQuery = (query + 1) & (QUERIES - 1);
+        character.setX(queryX[query]);
+        character.setY(queryY[query]);
+        interactions.query(character);
+        return interactions.getHitCount();
+    }
+
+    /**
+     * One breadth-first search of the flow field within its search radius. The character position
+     * alternates between its tile and the border to the next tile, so every call searches again.
+     * Allocation free, gc.alloc.rate.norm is expected to be 0 B/op.
+     */
+    @Benchmark
+    public boolean flowFieldUpdate() {
+        shifted = !shifted;
+        return flowField.update(character.getX() + (shifted ? Hitbox.WALL_SIZE : 0), character.getY());
+    }
+
+    /**
+     * Looking up the flow field direction of every enemy, as done once per step in the intelligent phase.
+     */
+    @Benchmark
+    public void flowFieldSteer(Blackhole blackhole) {
+        for (Enemy enemy : enemies) {
+            blackhole.consume(flowField.steer(enemy.getX(), enemy.getY(), enemy.getDirection()));
+        }
+    }
+
+    /**
+     * A sight line from every enemy to the character without the cache, the worst case of one
+     * step in which every enemy looks for the character right after it entered another tile.
+     * Allocation free, gc.alloc.rate.norm is expected to be 0 B/op.
+     */
+    @Benchmark
+    public void lineOfSightRaycast(Blackhole blackhole) {
+        int characterTileX = (int) character.getX() / WallManager.TILE_SIZE;
+        int characterTileY = (int) character.getY() / WallManager.TILE_SIZE;
+        for (Enemy enemy : enemies) {
+            int tileX = (int) enemy.getX() / WallManager.TILE_SIZE;
+            int tileY = (int) enemy.getY() / WallManager.TILE_SIZE;
+            blackhole.consume(lineOfSight.raycast(tileX, tileY, characterTileX, characterTileY));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package de.tum.cit.ase.maze.benchmarks;
+
+import de.tum.cit.ase.maze.MazeGrid;
+
+import java.util.Random;
+
+/**
+ * SyntheticMazes creates random mazes of arbitrary size for the benchmarks. The maze
+ * is surrounded by walls, every inner cell is a wall with the given probability and
+ * the entry point, exit, key and enemies are placed on random free cells.
+ */
+final class SyntheticMazes {
+
+    private SyntheticMazes() {
+    }
+
+    /**
+     * Creates a random square maze.
+     *
+     * @param size        number of cells along each axis.
+     * @param enemyCount  number of enemies (value 4) to be placed.
+     * @param wallDensity probability of an inner cell being a wall (value 0).
+     * @param seed        seed of the random generator, the same seed always creates the same maze.
+     * @return the cells of the maze.
+     */
+    static MazeGrid generate(int size, int enemyCount, double wallDensity, long seed) {
+        Random random = new Random(seed);
+        MazeGrid grid = new MazeGrid(size, size);
+
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                boolean border = x == 0 || y == 0 || x == size - 1 || y == size - 1;
+                if (border || random.nextDouble() < wallDensity) {
+                    grid.set(x, y, (byte) 0);
+                }
+            }
+        }
+
+        place(grid, random, (byte) 1); // entry point
+        place(grid, random, (byte) 2); // exit
+        place(grid, random, (byte) 5); // key
+        for (int i = 0; i < enemyCount; i++) {
+            place(grid, random, (byte) 4);
+        }
+        return grid;
+    }
+
+    /**
+     * Puts the given value on a random free (road) cell of the maze.
+     *
+     * @param grid   the cells of the maze.
+     * @param random the random generator.
+     * @param value  the cell value to be placed.
+     */
+    private static void place(MazeGrid grid, Random random, byte value) {
+        int size = grid.getWidth();
+        while (true) {
+            int x = 1 + random.nextInt(size - 2);
+            int y = 1 + random.nextInt(size - 2);
+            if (grid.get(x, y) == MazeGrid.EMPTY) {
+                grid.set(x, y, value);
+                return;
+            }
+        }
+    }
+}
@@ -2,16 +2,28 @@
 
 /**
  * The Add interface enables the implementing class to add
- * Coordinate type objects to the relevant in-class List.
+ * the coordinates of game elements to the relevant in-class CoordinateArray.
  *
  * @param <T> The type of Coordinate to be added.
  */
 public interface Add<T extends Number> {
     /**
-     * Creates and adds a Coordinate type object to the relevant in-class list.
+     * Adds the coordinates of a game element to the relevant in-class CoordinateArray,
+     * without creating any objects.
      *
-     * @param x The x-coordinate, sets the x-coordinate of the newly created Coordinate type object.
-     * @param y The y-coordinate, sets the y-coordinate of the newly created Coordinate type object.
+     * @param x The x-coordinate of the game element.
+     * @param y The y-coordinate of the game element.
      */
-    void add(T x, T y);
+    void add(float x, float y);
+
+    /**
+     * Adds the coordinates of a game element given as Number objects. Kept for callers
+     * which already hold boxed coordinates, prefer add(float, float) otherwise.
+     *
+     * @param x The x-coordinate of the game element.
+     * @param y The y-coordinate of the game element.
+     */
+    default void add(T x, T y) {
+        add(x.floatValue(), y.floatValue());
+    }
 }
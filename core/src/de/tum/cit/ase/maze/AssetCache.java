@@ -0,0 +1,135 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The AssetCache class keeps the textures and sounds of the game loaded for the whole
+ * lifetime of MazeRunnerGame. Every asset is loaded only once by the AssetManager, and
+ * screens acquire the assets they use and release them again when they are disposed.
+ * Released assets stay in the cache, so starting another game does not read or upload
+ * anything again. All assets are disposed exactly once, when the cache itself is disposed
+ * at shutdown.
+ */
+public class AssetCache implements Disposable {
+
+    private final AssetManager assetManager; // Loads the assets step by step
+    private final Map<String, Integer> references = new HashMap<>(); // Number of users of every requested asset
+    private boolean isDisposed;
+
+    /**
+     * Constructor for AssetCache. Creates the AssetManager loading the assets.
+     */
+    public AssetCache() {
+        assetManager = new AssetManager();
+    }
+
+    /**
+     * Queues an asset for loading, if it was never requested before.
+     *
+     * @param path path of the asset inside the assets folder.
+     * @param type class of the asset, e.g. Texture or Sound.
+     */
+    public <T> void queue(String path, Class<T> type) {
+        checkNotDisposed();
+        if (!references.containsKey(path)) {
+            references.put(path, 0);
+            assetManager.load(path, type);
+        }
+    }
+
+    /**
+     * Continues loading the queued assets for at most the given time.
+     *
+     * @param millis the time in milliseconds which may be spent loading.
+     * @return true if all queued assets are loaded.
+     */
+    public boolean update(int millis) {
+        checkNotDisposed();
+        return assetManager.update(millis);
+    }
+
+    /**
+     * Returns the loading progress of the queued assets.
+     *
+     * @return a value between 0 (nothing loaded) and 1 (everything loaded).
+     */
+    public float getProgress() {
+        return assetManager.getProgress();
+    }
+
+    /**
+     * Returns a loaded asset and counts the caller as a user of it.
+     * Every acquire has to be followed by a release once the asset is not used anymore.
+     *
+     * @param path path of the asset inside the assets folder.
+     * @param type class of the asset, e.g. Texture or Sound.
+     * @return the loaded asset.
+     */
+    public <T> T acquire(String path, Class<T> type) {
+        checkNotDisposed();
+        Integer count = references.get(path);
+        if (count == null) {
+            throw new IllegalStateException("Asset was never queued: " + path);
+        }
+        T asset = assetManager.get(path, type);
+        references.put(path, count + 1);
+        return asset;
+    }
+
+    /**
+     * Ends the use of an acquired asset. The asset stays loaded for later users.
+     *
+     * @param path path of the asset inside the assets folder.
+     */
+    public void release(String path) {
+        if (isDisposed) {
+            return; // Everything is gone already, e.g. a screen disposed after the game
+        }
+        Integer count = references.get(path);
+        if (count == null || count == 0) {
+            throw new IllegalStateException("Asset released more often than acquired: " + path);
+        }
+        references.put(path, count - 1);
+    }
+
+    /**
+     * Returns the number of users of an asset.
+     *
+     * @param path path of the asset inside the assets folder.
+     * @return how often the asset was acquired and not released yet.
+     */
+    public int getReferenceCount(String path) {
+        return references.getOrDefault(path, 0);
+    }
+
+    /**
+     * Disposes all cached assets. Further calls do nothing.
+     */
+    @Override
+    public void dispose() {
+        if (isDisposed) {
+            return;
+        }
+        for (Map.Entry<String, Integer> entry : references.entrySet()) {
+            if (entry.getValue() > 0) {
+                System.err.println("Asset still in use at shutdown: " + entry.getKey());
+            }
+        }
+        assetManager.dispose();
+        references.clear();
+        isDisposed = true;
+    }
+
+    /**
+     * Throws an IllegalStateException if the cache was disposed already.
+     */
+    private void checkNotDisposed() {
+        if (isDisposed) {
+            throw new IllegalStateException("The asset cache is disposed");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * BodyComponent links an entity to the Character or Enemy moved by the MazeModel.
+ * The model stays the only owner of the movement, so replays and batch simulations
+ * do not depend on the entities.
+ */
+public class BodyComponent implements Component {
+    public static final ComponentMapper<BodyComponent> MAPPER = ComponentMapper.getFor(BodyComponent.class);
+
+    public final DynamicCoordinate<?> body;
+
+    /**
+     * Constructor for BodyComponent.
+     *
+     * @param body the moving game element of the model.
+     */
+    public BodyComponent(DynamicCoordinate<?> body) {
+        this.body = body;
+    }
+}
@@ -115,6 +115,10 @@ public void setCoolDownSpeedUp(float coolDownSpeedUp) {
         this.coolDownSpeedUp = coolDownSpeedUp;
     }
 
+    public float getCoolDownSpeedUp() {
+        return coolDownSpeedUp;
+    }
+
     public int getCharacterLives() {
         return characterLives;
     }
@@ -0,0 +1,54 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * CharacterRenderSystem draws the character controlled by the player. Changes
+ * character's colors if cool down timer for character speed up and/or collision
+ * with enemies/traps is currently active.
+ */
+public class CharacterRenderSystem extends IteratingSystem {
+    private final RenderContext context;
+
+    /**
+     * Constructor for CharacterRenderSystem.
+     *
+     * @param priority order of the system in the engine, lower is drawn first.
+     * @param context  the shared values of the frame.
+     */
+    public CharacterRenderSystem(int priority, RenderContext context) {
+        super(Family.all(PositionComponent.class, SpriteComponent.class, PlayerComponent.class).get(), priority);
+        this.context = context;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        context.getProfiler().start(FrameProfiler.Phase.CHARACTER);
+        super.update(deltaTime);
+        context.getProfiler().stop(FrameProfiler.Phase.CHARACTER);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Character character = PlayerComponent.MAPPER.get(entity).character;
+        SpriteBatch batch = context.getBatch();
+
+        // Change the color of the character when cool down timer for character speed up and/or collision with an enemy/trap is active.
+        if (character.getCoolDownTimer() > 0) {
+            batch.setColor(1.0f, 0.5f, 0.5f, 1.0f); //Reddish
+        } else if (character.getCoolDownSpeedUp() > 0) {
+            batch.setColor(0.5f, 1.0f, 0.5f, 1.0f);//Greenish
+        } else {
+            batch.setColor(Color.WHITE);//White
+        }
+
+        PositionComponent position = PositionComponent.MAPPER.get(entity);
+        SpriteComponent sprite = SpriteComponent.MAPPER.get(entity);
+        context.draw(sprite.getFrame(context.getAnimationTime()), position.x, position.y, sprite.width, sprite.height);
+        batch.setColor(Color.WHITE);
+    }
+}
@@ -0,0 +1,145 @@
+package de.tum.cit.ase.maze;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The CoordinateArray class stores the x,y coordinates of many stationary game elements
+ * (roads, walls, exits, traps, keys and collectibles) in two parallel float arrays instead
+ * of one Coordinate object per element. Adding, reading and removing coordinates does not
+ * create any objects or box any numbers, and iterating over big mazes walks through two
+ * contiguous arrays instead of chasing a pointer per element.
+ */
+public class CoordinateArray {
+    private float[] xs; // x-coordinates of the elements
+    private float[] ys; // y-coordinates of the elements, same index as in xs
+    private int size; // number of stored elements
+
+    /**
+     * Constructor for CoordinateArray. Creates an empty array with room for 16 elements.
+     */
+    public CoordinateArray() {
+        this(16);
+    }
+
+    /**
+     * Constructor for CoordinateArray.
+     *
+     * @param capacity number of elements which can be added before the arrays have to grow.
+     */
+    public CoordinateArray(int capacity) {
+        xs = new float[Math.max(capacity, 1)];
+        ys = new float[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Adds the coordinates of an element at the end of the array.
+     *
+     * @param x x-coordinate of the element
+     * @param y y-coordinate of the element
+     */
+    public void add(float x, float y) {
+        if (size == xs.length) {
+            int capacity = Math.max(8, (int) (size * 1.75f));
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+        }
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+    }
+
+    /**
+     * Adds count elements of another CoordinateArray, starting at the given index.
+     *
+     * @param other the array to copy the elements from
+     * @param start index of the first copied element
+     * @param count number of copied elements
+     */
+    public void addAll(CoordinateArray other, int start, int count) {
+        if (start < 0 || count < 0 || start + count > other.size) {
+            throw new IndexOutOfBoundsException("Elements " + start + " to " + (start + count) + " of " + other.size);
+        }
+        for (int i = start; i < start + count; i++) {
+            add(other.xs[i], other.ys[i]);
+        }
+    }
+
+    /**
+     * Removes the element at the given index. The order of the remaining elements is kept.
+     *
+     * @param index index of the removed element
+     */
+    public void removeIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+        }
+        size--;
+        System.arraycopy(xs, index + 1, xs, index, size - index);
+        System.arraycopy(ys, index + 1, ys, index, size - index);
+    }
+
+    /**
+     * Removes the element at the given index in constant time by moving the last element
+     * into its place. The order of the remaining elements changes.
+     *
+     * @param index index of the removed element
+     */
+    public void removeIndexUnordered(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+        }
+        size--;
+        xs[index] = xs[size];
+        ys[index] = ys[size];
+    }
+
+    /**
+     * Replaces the coordinates of the element at the given index.
+     *
+     * @param index index of the replaced element
+     * @param x     the new x-coordinate
+     * @param y     the new y-coordinate
+     */
+    public void set(int index, float x, float y) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+        }
+        xs[index] = x;
+        ys[index] = y;
+    }
+
+    /**
+     * Brings the elements into a random order (Fisher-Yates shuffle).
+     *
+     * @param random the source of randomness
+     */
+    public void shuffle(Random random) {
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            float x = xs[i];
+            float y = ys[i];
+            xs[i] = xs[j];
+            ys[i] = ys[j];
+            xs[j] = x;
+            ys[j] = y;
+        }
+    }
+
+    // getters for the attributes
+    public float getX(int index) {
+        return xs[index];
+    }
+
+    public float getY(int index) {
+        return ys[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
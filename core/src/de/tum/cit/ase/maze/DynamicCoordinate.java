@@ -1,11 +1,7 @@
 package de.tum.cit.ase.maze;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.utils.Array;
 
 /**
  * The DynamicCoordinate class is the superclass for all non-stationary/moving gameObject classes(Enemy & Character class)
@@ -15,13 +11,17 @@
 
 public class DynamicCoordinate<T extends Number> extends Coordinate<T> implements DisposeTextureRegion {
 
-    // These are used for the character animations
-    private final Animation<TextureRegion> DownAnimation;
-    private final Animation<TextureRegion> UpAnimation;
-    private final Animation<TextureRegion> LeftAnimation;
-    private final Animation<TextureRegion> RightAnimation;
-    private final TextureRegion[] textureRegions; //Stores textures for left, right, up, down
-    private TextureRegion currentTr;// The current texture for the enemy/character
+    // These are used for the character animations. They are loaded on first use,
+    // so enemies and the character can also be simulated without graphics.
+    private Animation<TextureRegion> DownAnimation;
+    private Animation<TextureRegion> UpAnimation;
+    private Animation<TextureRegion> LeftAnimation;
+    private Animation<TextureRegion> RightAnimation;
+    private TextureRegion[] textureRegions; //Stores textures for left, right, up, down
+    private final boolean isCharacter; // decides which animations and textures are loaded
+
+    private int facing; // 0 left, 1 right, 2 up, 3 down in accordance with textureRegions' indexes
+    private boolean moving; // whether the DynamicCoordinate moved in the current simulation step
 
     private float Speed;
 
@@ -29,11 +29,15 @@
     private float prevX;
     private float prevY;
 
+    // The x,y coordinates before the last simulation step, used to interpolate the rendered position.
+    private float stepStartX;
+    private float stepStartY;
+
 
     /**
      * Constructor for DynamicCoordinate. Passes x,y coordinates to Coordinate
-     * class and sets up animations, textures and default speed along with initial
-     * values for prevX, prevY  and currentTr.
+     * class and sets up default speed along with initial values for prevX, prevY
+     * and facing. The animations and textures are loaded when they are first requested.
      *
      * @param x           x-coordinate of the DynamicCoordinate
      * @param y           y- coordinate of the DynamicCoordinate
@@ -41,35 +45,13 @@
      */
     public DynamicCoordinate(T x, T y, boolean isCharacter) {
         super(x, y);
-        textureRegions = new TextureRegion[4];
+        this.isCharacter = isCharacter;
         this.prevX = x.floatValue();
         this.prevY = y.floatValue();
+        this.stepStartX = x.floatValue();
+        this.stepStartY = y.floatValue();
 
-
-        if (isCharacter) {
-            DownAnimation = returnAnimation(0, 4, 16, 32, 0, "character.png");
-            UpAnimation = returnAnimation(0, 4, 16, 32, 2, "character.png");
-            LeftAnimation = returnAnimation(0, 4, 16, 32, 3, "character.png");
-            RightAnimation = returnAnimation(0, 4, 16, 32, 1, "character.png");
-            textureRegions[0] = new TextureRegion(new Texture(Gdx.files.internal("character.png")), 0, 3 * 32, 16, 32);
-            textureRegions[1] = new TextureRegion(new Texture(Gdx.files.internal("character.png")), 0, 32, 16, 32);
-            textureRegions[2] = new TextureRegion(new Texture(Gdx.files.internal("character.png")), 0, 2 * 32, 16, 32);
-            textureRegions[3] = new TextureRegion(new Texture(Gdx.files.internal("character.png")), 0, 0, 16, 32);
-
-        } else {
-            DownAnimation = returnAnimation(0, 3, 16, 16, 4, "mobs.png");
-            UpAnimation = returnAnimation(0, 3, 16, 16, 7, "mobs.png");
-            LeftAnimation = returnAnimation(0, 3, 16, 16, 5, "mobs.png");
-            RightAnimation = returnAnimation(0, 3, 16, 16, 6, "mobs.png");
-
-            textureRegions[0] = new TextureRegion(new Texture(Gdx.files.internal("mobs.png")), 16, 5 * 16, 16, 16);
-            textureRegions[1] = new TextureRegion(new Texture(Gdx.files.internal("mobs.png")), 16, 6 * 16, 16, 16);
-            textureRegions[2] = new TextureRegion(new Texture(Gdx.files.internal("mobs.png")), 16, 7 * 16, 16, 16);
-            textureRegions[3] = new TextureRegion(new Texture(Gdx.files.internal("mobs.png")), 16, 4 * 16, 16, 16);
-
-        }
-
-        currentTr = textureRegions[3];
+        facing = 3;
         Speed = 180.0f;
     }
 
@@ -92,127 +74,174 @@ public void setPrevY(float prevY) {
 
 
     /**
-     * Increases the y-coordinate of DynamicObject and assigns 'UP' texture
-     *
-     * @return animation depicting upward movement
+     * Remembers the current coordinates as the start of a new simulation step.
      */
-    public Animation<TextureRegion> moveUp() {
-        Y += Gdx.graphics.getDeltaTime() * getSpeed();
-        currentTr = textureRegions[2];
-        return UpAnimation;
+    public void saveStepStart() {
+        stepStartX = X;
+        stepStartY = Y;
     }
 
-
     /**
-     * Decreases the y-coordinate of DynamicObject and assigns 'DOWN' texture
+     * Returns the x-coordinate between the start and the end of the last simulation step.
      *
-     * @return animation depicting downward movement
+     * @param alpha 0 for the start, 1 for the end of the last simulation step.
+     * @return the interpolated x-coordinate used for rendering.
      */
+    public float getInterpolatedX(float alpha) {
+        return stepStartX + (X - stepStartX) * alpha;
+    }
 
-    public Animation<TextureRegion> moveDown() {
-        Y -= Gdx.graphics.getDeltaTime() * getSpeed();
-        currentTr = textureRegions[3];
-        return DownAnimation;
+    /**
+     * Returns the y-coordinate between the start and the end of the last simulation step.
+     *
+     * @param alpha 0 for the start, 1 for the end of the last simulation step.
+     * @return the interpolated y-coordinate used for rendering.
+     */
+    public float getInterpolatedY(float alpha) {
+        return stepStartY + (Y - stepStartY) * alpha;
     }
 
 
     /**
-     * Increases the x-coordinate of DynamicObject and assigns 'RIGHT' texture
+     * Increases the y-coordinate of DynamicObject and turns it upwards
      *
-     * @return animation depicting rightward movement
+     * @param delta the time in seconds the DynamicObject moves for.
      */
-    public Animation<TextureRegion> moveRight() {
-        X += Gdx.graphics.getDeltaTime() * getSpeed();
-        currentTr = textureRegions[1];
-        return RightAnimation;
+    public void moveUp(float delta) {
+        Y += delta * getSpeed();
+        facing = 2;
+        moving = true;
     }
 
+
     /**
-     * Decreases the x-coordinate of DynamicObject and assigns 'LEFT' texture
+     * Decreases the y-coordinate of DynamicObject and turns it downwards
      *
-     * @return animation depicting leftward movement
+     * @param delta the time in seconds the DynamicObject moves for.
      */
-    public Animation<TextureRegion> moveLeft() {
-        X -= Gdx.graphics.getDeltaTime() * getSpeed();
-        currentTr = textureRegions[0];
-        return LeftAnimation;
+
+    public void moveDown(float delta) {
+        Y -= delta * getSpeed();
+        facing = 3;
+        moving = true;
     }
 
 
     /**
-     * Used to assign appropriate animations to the DynamicCoordinate.
+     * Increases the x-coordinate of DynamicObject and turns it to the right
      *
-     * @param startIndex  first texture column  containing the required textureRegions in the  .png
-     * @param endIndex    last texture column containing the required textureRegions in the .png
-     * @param frameWidth  the width of each texture region in the .png
-     * @param frameHeight the height of each texture region in the .png
-     * @param row         texture row number containing the required textureRegions in the .png
-     * @param filePath    location of the .png file
-     * @return Animation<TextureRegion> with frame duration of 0.1f.
+     * @param delta the time in seconds the DynamicObject moves for.
      */
-    public Animation<TextureRegion> returnAnimation(int startIndex, int endIndex, int frameWidth, int frameHeight,
-                                                    int row, String filePath) {
-        Texture walkSheet = new Texture(Gdx.files.internal(filePath));
+    public void moveRight(float delta) {
+        X += delta * getSpeed();
+        facing = 1;
+        moving = true;
+    }
+
+    /**
+     * Decreases the x-coordinate of DynamicObject and turns it to the left
+     *
+     * @param delta the time in seconds the DynamicObject moves for.
+     */
+    public void moveLeft(float delta) {
+        X -= delta * getSpeed();
+        facing = 0;
+        moving = true;
+    }
+
 
+    /**
+     * Loads the animations and textures of the DynamicCoordinate, if not done yet.
+     */
+    private void loadTextures() {
+        if (textureRegions != null) {
+            return;
+        }
+        textureRegions = new TextureRegion[4];
 
-        // libGDX internal Array instead of ArrayList because of performance
-        Array<TextureRegion> walkFrames = new Array<>(TextureRegion.class);
+        if (isCharacter) {
+            DownAnimation = returnAnimation(0, 4, 16, 32, 0, "character");
+            UpAnimation = returnAnimation(0, 4, 16, 32, 2, "character");
+            LeftAnimation = returnAnimation(0, 4, 16, 32, 3, "character");
+            RightAnimation = returnAnimation(0, 4, 16, 32, 1, "character");
+            textureRegions[0] = TextureRegistry.getRegion("character", 0, 3 * 32, 16, 32);
+            textureRegions[1] = TextureRegistry.getRegion("character", 0, 32, 16, 32);
+            textureRegions[2] = TextureRegistry.getRegion("character", 0, 2 * 32, 16, 32);
+            textureRegions[3] = TextureRegistry.getRegion("character", 0, 0, 16, 32);
 
-        // Add all frames to the animation
-        for (int col = startIndex; col < endIndex; col++) {
-            walkFrames.add(new TextureRegion(walkSheet, col * frameWidth, row * frameHeight, frameWidth, frameHeight));
+        } else {
+            DownAnimation = returnAnimation(0, 3, 16, 16, 4, "mobs");
+            UpAnimation = returnAnimation(0, 3, 16, 16, 7, "mobs");
+            LeftAnimation = returnAnimation(0, 3, 16, 16, 5, "mobs");
+            RightAnimation = returnAnimation(0, 3, 16, 16, 6, "mobs");
+
+            textureRegions[0] = TextureRegistry.getRegion("mobs", 16, 5 * 16, 16, 16);
+            textureRegions[1] = TextureRegistry.getRegion("mobs", 16, 6 * 16, 16, 16);
+            textureRegions[2] = TextureRegistry.getRegion("mobs", 16, 7 * 16, 16, 16);
+            textureRegions[3] = TextureRegistry.getRegion("mobs", 16, 4 * 16, 16, 16);
         }
+    }
 
-        return new Animation<>(0.1f, walkFrames);
+
+    /**
+     * Returns the animation matching the direction the DynamicCoordinate is facing.
+     *
+     * @return animation depicting movement in the current direction.
+     */
+    public Animation<TextureRegion> getAnimation() {
+        loadTextures();
+        return switch (facing) {
+            case 0 -> LeftAnimation;
+            case 1 -> RightAnimation;
+            case 2 -> UpAnimation;
+            default -> DownAnimation;
+        };
     }
 
 
     /**
-     * Detects overlap between DynamicCoordinate object and another object present at x,y coordinates using Rectangle class
+     * Used to assign appropriate animations to the DynamicCoordinate.
+     *
+     * @param startIndex  first texture column  containing the required textureRegions in the sheet
+     * @param endIndex    last texture column containing the required textureRegions in the sheet
+     * @param frameWidth  the width of each texture region in the sheet
+     * @param frameHeight the height of each texture region in the sheet
+     * @param row         texture row number containing the required textureRegions in the sheet
+     * @param sheet       name of the sprite sheet inside the shared texture atlas
+     * @return Animation<TextureRegion> with frame duration of 0.1f.
+     */
+    public Animation<TextureRegion> returnAnimation(int startIndex, int endIndex, int frameWidth, int frameHeight,
+                                                    int row, String sheet) {
+        return TextureRegistry.getAnimation(sheet, startIndex, endIndex, frameWidth, frameHeight, row);
+    }
+
+
+    /**
+     * Detects overlap between DynamicCoordinate object and another object present at x,y coordinates.
+     * The 64x64 hitbox of the DynamicCoordinate is checked against the 32x32 hitbox of the other object
+     * without creating any objects.
      *
      * @param x x-coordinate of object checked for overlap with DynamicCoordinate object
      * @param y y-coordinate of object checked for overlap with DynamicCoordinate object
-     * @return true if there is an overlap between rectangle created at the DynamicCoordinate's coordinates
-     * and rectangle created at the checked x,y coordinates
+     * @return true if there is an overlap between the hitbox at the DynamicCoordinate's coordinates
+     * and the hitbox at the checked x,y coordinates
      */
     public boolean detectCollision(float x, float y) {
-        // rectangle created at the checked x,y coordinates
-        Rectangle checkedRectangle = new Rectangle((int) x, (int) y, 32, 32);
-
-        // rectangle created at the DynamicCoordinate's  x,y coordinates
-        Rectangle charRectangle = new Rectangle((int) getX(), (int) getY(), 64, 64);
-
-        //checking for overlap
-        return charRectangle.overlaps(checkedRectangle);
+        return Hitbox.overlaps((int) getX(), (int) getY(), Hitbox.DYNAMIC_SIZE, Hitbox.DYNAMIC_SIZE,
+                (int) x, (int) y, Hitbox.TARGET_SIZE, Hitbox.TARGET_SIZE);
     }
 
 
     /**
-     * Disposes all the textures.
+     * Releases all the textures. The texture is shared and disposed by TextureRegistry.
      */
     @Override
     public void disposeTx() {
-
-        for (TextureRegion frame : DownAnimation.getKeyFrames()) {
-            frame.getTexture().dispose();
-        }
-
-        for (TextureRegion frame : UpAnimation.getKeyFrames()) {
-            frame.getTexture().dispose();
-        }
-
-        for (TextureRegion frame : LeftAnimation.getKeyFrames()) {
-            frame.getTexture().dispose();
-        }
-
-        for (TextureRegion frame : RightAnimation.getKeyFrames()) {
-            frame.getTexture().dispose();
-        }
-
-        for (TextureRegion textureRegion : textureRegions) {
-            textureRegion.getTexture().dispose();
-        }
-
+        DownAnimation = null;
+        UpAnimation = null;
+        LeftAnimation = null;
+        RightAnimation = null;
+        textureRegions = null;
     }
 
     // getter and setters for different attributes.
@@ -226,7 +255,16 @@ public void setSpeed(float speed) {
     }
 
     public TextureRegion getCurrentTr() {
-        return currentTr;
+        loadTextures();
+        return textureRegions[facing];
+    }
+
+    public boolean isMoving() {
+        return moving;
+    }
+
+    public void setMoving(boolean moving) {
+        this.moving = moving;
     }
 
 
@@ -3,7 +3,6 @@
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Rectangle;
 
 import java.nio.file.FileAlreadyExistsException;
 import java.util.ArrayList;
@@ -22,29 +21,39 @@ public class Enemy extends DynamicCoordinate<Number> {
      * enemyPower, idSinus this is a floating number [-0.9, 0.9 - enemyPower]
      * enemyPower should be given such that it is between 0 and 1
      * Enemy only moves when sinusInput is between idSinus and idSinus +
-     * enemyPower
+     * enemyPower. The enemyPower is a parameter of the MazeModel, so games
+     * running at the same time can use different values.
      */
     private final float idSinus;
-    public static float enemyPower = 0.9f;
+    public static final float DEFAULT_POWER = 0.9f; // enemyPower of MazeModels created without one
 
     /**
      * 0 left, 1 right, 2 up, 3 down in accordance with DynamicCoordinate's textureRegions' indexes.
      */
     private int direction;
 
+    private final float homeX; // x-coordinate of the spawn location, the enemy returns there after a chase
+    private final float homeY; // y-coordinate of the spawn location
+    private boolean chasing; // Whether the enemy follows the flow field towards the character, see EnemyState.CHASE
+    private boolean blocked; // Whether the last movement of the enemy was stopped by a wall
+    private int chunk; // Chunk of the SimulationLod the enemy is kept in
+
 
     /**
      * Constructor for Enemy. Passes x,y coordinates and isCharacter = false to superclass.
      * Also, assigns a random float value to idSinus and sets initial movement direction down.
      * @param x coordinate of enemy in game
      * @param y coordinate of enemy in game
+     * @param random random generator of the game, used for idSinus
+     * @param enemyPower share of the time the enemy moves, between 0 and 1
      */
-    public Enemy(float x, float y) {
+    public Enemy(float x, float y, Random random, float enemyPower) {
         super(x, y, false);
 
-        Random random = new Random();
         this.idSinus = random.nextFloat() * (1.8f - enemyPower) - 0.9f;
         direction = 3;
+        homeX = x;
+        homeY = y;
     }
 
 
@@ -53,10 +62,6 @@ public float getIdSinus() {
         return idSinus;
     }
 
-    public static void setEnemyPower(float enemyPower) {
-        Enemy.enemyPower = enemyPower;
-    }
-
     public void setDirection(int direction) {
         this.direction = direction;
     }
@@ -66,4 +71,36 @@ public int getDirection() {
         return direction;
     }
 
+    public float getHomeX() {
+        return homeX;
+    }
+
+    public float getHomeY() {
+        return homeY;
+    }
+
+    public boolean isChasing() {
+        return chasing;
+    }
+
+    public void setChasing(boolean chasing) {
+        this.chasing = chasing;
+    }
+
+    public boolean isBlocked() {
+        return blocked;
+    }
+
+    public void setBlocked(boolean blocked) {
+        this.blocked = blocked;
+    }
+
+    public int getChunk() {
+        return chunk;
+    }
+
+    public void setChunk(int chunk) {
+        this.chunk = chunk;
+    }
+
 }
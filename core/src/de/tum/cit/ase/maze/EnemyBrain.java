@@ -0,0 +1,142 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.ai.fsm.DefaultStateMachine;
+import com.badlogic.gdx.ai.fsm.StateMachine;
+import com.badlogic.gdx.ai.sched.Schedulable;
+
+import java.util.Random;
+
+/**
+ * EnemyBrain class makes the movement decisions of an enemy with a state machine of
+ * EnemyStates. It is run by the LoadBalancingScheduler of the MazeModel every few steps,
+ * together with a few other enemies, so the cost of the enemy AI is spread over the steps
+ * instead of growing into a spike whenever the enemy phase changes.
+ * Only the direction of the enemy is decided here, MazeModel moves it in every step.
+ */
+public class EnemyBrain implements Schedulable {
+    private static final float LEASH = 8 * 64f; // distance to the spawn location from which an enemy returns after a chase
+    private static final float GIVE_UP_TIME = 3f; // seconds without seeing the character after which a chase ends
+
+    private final MazeModel model;
+    private final Enemy enemy;
+    private final Random random; // random generator of the game, so the decisions can be repeated from the seed
+    private final StateMachine<EnemyBrain, EnemyState> stateMachine;
+
+    // Where and when (MazeModel.getSinusInput()) the enemy saw the character the last time
+    private float lastSeenX;
+    private float lastSeenY;
+    private float lastSeenTime;
+
+    /**
+     * Constructor for EnemyBrain. The enemy starts wandering in its current direction.
+     *
+     * @param model  the game the enemy belongs to.
+     * @param enemy  the enemy controlled by this brain.
+     * @param random random generator of the game.
+     */
+    public EnemyBrain(MazeModel model, Enemy enemy, Random random) {
+        this.model = model;
+        this.enemy = enemy;
+        this.random = random;
+        stateMachine = new DefaultStateMachine<>(this, EnemyState.WANDER);
+    }
+
+    /**
+     * Updates the state machine once, unless the enemy sleeps because it is far away from
+     * the character, see SimulationLod. The thinking of an enemy takes far less than the
+     * given time, it never stops early, so the game does not depend on the speed of the machine.
+     *
+     * @param nanoTimeToRun the share of the enemy AI budget given to this enemy by the scheduler.
+     */
+    @Override
+    public void run(long nanoTimeToRun) {
+        if (!model.getSimulationLod().isAwake(enemy)) {
+            return;
+        }
+        stateMachine.update();
+    }
+
+    /**
+     * Checks whether the enemy sees the character, see LineOfSight, and remembers where it saw it.
+     *
+     * @return true if the enemy sees the character.
+     */
+    public boolean lookForCharacter() {
+        if (!model.getLineOfSight().canSeeTarget(enemy.getX(), enemy.getY())) {
+            return false;
+        }
+        lastSeenX = model.getCharacter().getX();
+        lastSeenY = model.getCharacter().getY();
+        lastSeenTime = model.getSinusInput();
+        return true;
+    }
+
+    /**
+     * Checks whether the enemy has not seen the character for longer than GIVE_UP_TIME.
+     *
+     * @return true if the enemy should stop chasing the character.
+     */
+    public boolean hasLostCharacter() {
+        return model.getSinusInput() - lastSeenTime > GIVE_UP_TIME;
+    }
+
+    /**
+     * Turns the enemy into a random direction.
+     */
+    public void randomDirection() {
+        enemy.setDirection(random.nextInt(4));
+    }
+
+    /**
+     * Turns the enemy towards the given position along the axis with the larger distance.
+     * If the enemy ran into a wall, the other axis is tried, so it can walk around the wall.
+     *
+     * @param targetX x-coordinate of the target.
+     * @param targetY y-coordinate of the target.
+     */
+    public void headTowards(float targetX, float targetY) {
+        float difX = targetX - enemy.getX();
+        float difY = targetY - enemy.getY();
+        boolean alongX = Math.abs(difX) >= Math.abs(difY);
+        if (enemy.isBlocked()) {
+            alongX = !alongX;
+        }
+
+        if (alongX) {
+            enemy.setDirection(difX <= 0 ? 0 : 1); // Left or Right
+        } else {
+            enemy.setDirection(difY <= 0 ? 3 : 2); // Down or Up
+        }
+    }
+
+    /**
+     * Checks whether the enemy is further than LEASH away from its spawn location along either axis.
+     *
+     * @return true if the enemy should return to its spawn location.
+     */
+    public boolean isFarFromHome() {
+        return Math.abs(enemy.getX() - enemy.getHomeX()) > LEASH || Math.abs(enemy.getY() - enemy.getHomeY()) > LEASH;
+    }
+
+
+    // getters for different attributes
+    public MazeModel getModel() {
+        return model;
+    }
+
+    public Enemy getEnemy() {
+        return enemy;
+    }
+
+    public StateMachine<EnemyBrain, EnemyState> getStateMachine() {
+        return stateMachine;
+    }
+
+    public float getLastSeenX() {
+        return lastSeenX;
+    }
+
+    public float getLastSeenY() {
+        return lastSeenY;
+    }
+}
@@ -0,0 +1,24 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * EnemyComponent marks the entity of an enemy, so it is drawn in the enemy layer, and
+ * links it to the Enemy of the model, see EnemyRenderSystem. It carries no rules:
+ * the MazeModel moves the enemies and checks their collisions.
+ */
+public class EnemyComponent implements Component {
+    public static final ComponentMapper<EnemyComponent> MAPPER = ComponentMapper.getFor(EnemyComponent.class);
+
+    public final Enemy enemy;
+
+    /**
+     * Constructor for EnemyComponent.
+     *
+     * @param enemy the enemy of the model.
+     */
+    public EnemyComponent(Enemy enemy) {
+        this.enemy = enemy;
+    }
+}
@@ -0,0 +1,99 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * EnemyRenderSystem moves and draws the entities of the enemies. Instead of going through
+ * all enemy entities, it only visits the chunks of the SimulationLod around the area
+ * visible to the camera and looks up the entities of the enemies in them, so the cost of
+ * a frame depends on the enemies close to the camera and not on the number of enemies
+ * in the maze. The entities are moved like in the MotionSystem, and the time of the
+ * layer is measured as the ENEMIES phase of the FrameProfiler.
+ */
+public class EnemyRenderSystem extends EntitySystem implements EntityListener {
+    private static final Family FAMILY = Family.all(PositionComponent.class, SpriteComponent.class, EnemyComponent.class).get();
+    private static final int CHUNK_PIXELS = SimulationLod.CHUNK_SIZE * WallManager.TILE_SIZE;
+    // Enemies are drawn 64 pixels wide and up to a step away from their chunk, plus the culling margin of the RenderContext
+    private static final int MARGIN = 3 * WallManager.TILE_SIZE;
+
+    private final SimulationLod simulationLod;
+    private final RenderContext context;
+    private final ObjectMap<Enemy, Entity> entities = new ObjectMap<>(); // entity of every enemy
+
+    /**
+     * Constructor for EnemyRenderSystem.
+     *
+     * @param simulationLod the enemies of the model by chunk.
+     * @param priority      order of the system in the engine, lower is drawn first.
+     * @param context       the shared values of the frame.
+     */
+    public EnemyRenderSystem(SimulationLod simulationLod, int priority, RenderContext context) {
+        super(priority);
+        this.simulationLod = simulationLod;
+        this.context = context;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        // The entities are usually added after the system, the listener links them when they come
+        engine.addEntityListener(FAMILY, this);
+        ImmutableArray<Entity> enemyEntities = engine.getEntitiesFor(FAMILY);
+        for (int i = 0; i < enemyEntities.size(); i++) {
+            entityAdded(enemyEntities.get(i));
+        }
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+        entities.clear();
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        entities.put(EnemyComponent.MAPPER.get(entity).enemy, entity);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        entities.remove(EnemyComponent.MAPPER.get(entity).enemy);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        context.getProfiler().start(FrameProfiler.Phase.ENEMIES);
+        int minChunkX = Math.max(MathUtils.floor((context.getVisibleLeft() - MARGIN) / CHUNK_PIXELS), 0);
+        int maxChunkX = Math.min(MathUtils.floor((context.getVisibleRight() + MARGIN) / CHUNK_PIXELS), simulationLod.getChunkColumns() - 1);
+        int minChunkY = Math.max(MathUtils.floor((context.getVisibleBottom() - MARGIN) / CHUNK_PIXELS), 0);
+        int maxChunkY = Math.min(MathUtils.floor((context.getVisibleTop() + MARGIN) / CHUNK_PIXELS), simulationLod.getChunkRows() - 1);
+
+        for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                Array<Enemy> enemies = simulationLod.getEnemies(chunkX, chunkY);
+                if (enemies == null) {
+                    continue;
+                }
+                for (int i = 0; i < enemies.size; i++) {
+                    Enemy enemy = enemies.get(i);
+                    Entity entity = entities.get(enemy);
+                    if (entity == null) {
+                        continue;
+                    }
+                    MotionSystem.follow(entity, enemy, context.getAlpha());
+                    PositionComponent position = PositionComponent.MAPPER.get(entity);
+                    SpriteComponent sprite = SpriteComponent.MAPPER.get(entity);
+                    context.drawIfVisible(sprite.getFrame(context.getAnimationTime()), position.x, position.y, sprite.width, sprite.height);
+                }
+            }
+        }
+        context.getProfiler().stop(FrameProfiler.Phase.ENEMIES);
+    }
+}
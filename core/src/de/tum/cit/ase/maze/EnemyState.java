@@ -0,0 +1,84 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.ai.fsm.State;
+import com.badlogic.gdx.ai.msg.Telegram;
+
+/**
+ * enum holds the states of the enemy state machine, see EnemyBrain. The states are only
+ * updated when the enemy thinks, so the enemies notice a change of the enemy phase of the
+ * MazeModel one after another instead of all in the same step. An enemy only starts a
+ * chase once it sees the character, walls block its sight, see LineOfSight.
+ */
+public enum EnemyState implements State<EnemyBrain> {
+    // Walks in a random direction, and turns randomly when it runs into a wall
+    WANDER {
+        @Override
+        public void enter(EnemyBrain brain) {
+            brain.randomDirection();
+        }
+
+        @Override
+        public void update(EnemyBrain brain) {
+            if (brain.getModel().isEnemyIntelligent() && brain.lookForCharacter()) {
+                brain.getStateMachine().changeState(CHASE);
+            } else if (brain.getEnemy().isBlocked()) {
+                brain.randomDirection();
+            }
+        }
+    },
+
+    // Heads towards the character, along the flow field if flow field pathing is on.
+    // Gives up when it has not seen the character for a while.
+    CHASE {
+        @Override
+        public void enter(EnemyBrain brain) {
+            brain.getEnemy().setChasing(true);
+            update(brain);
+        }
+
+        @Override
+        public void update(EnemyBrain brain) {
+            MazeModel model = brain.getModel();
+            brain.lookForCharacter();
+            if (!model.isEnemyIntelligent() || brain.hasLostCharacter()) {
+                brain.getStateMachine().changeState(brain.isFarFromHome() ? RETURN : WANDER);
+            } else if (!model.isFlowFieldPathing()) {
+                // Without the flow field the enemy heads to where it saw the character along the larger axis
+                brain.headTowards(brain.getLastSeenX(), brain.getLastSeenY());
+            }
+        }
+
+        @Override
+        public void exit(EnemyBrain brain) {
+            brain.getEnemy().setChasing(false);
+        }
+    },
+
+    // Heads back to the spawn location after a chase ended far away from it
+    RETURN {
+        @Override
+        public void update(EnemyBrain brain) {
+            Enemy enemy = brain.getEnemy();
+            if (brain.getModel().isEnemyIntelligent() && brain.lookForCharacter()) {
+                brain.getStateMachine().changeState(CHASE);
+            } else if (!brain.isFarFromHome()) {
+                brain.getStateMachine().changeState(WANDER);
+            } else {
+                brain.headTowards(enemy.getHomeX(), enemy.getHomeY());
+            }
+        }
+    };
+
+    @Override
+    public void enter(EnemyBrain brain) {
+    }
+
+    @Override
+    public void exit(EnemyBrain brain) {
+    }
+
+    @Override
+    public boolean onMessage(EnemyBrain brain, Telegram telegram) {
+        return false; // enemies do not send messages
+    }
+}
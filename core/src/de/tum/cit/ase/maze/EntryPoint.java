@@ -1,7 +1,5 @@
 package de.tum.cit.ase.maze;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
@@ -10,28 +8,30 @@
  * setting the textureRegion for entry point to the maze.
  */
 public class EntryPoint extends Coordinate<Number> implements DisposeTextureRegion {
-    private final TextureRegion textureRegion;
+    private TextureRegion textureRegion; // loaded on first use, so the entry point can also be created without graphics
 
     /**
-     * Constructor for EntryPoint. Passes x,y coordinates to superclass and assigns
-     * the correct textureRegion.
+     * Constructor for EntryPoint. Passes x,y coordinates to superclass. The
+     * textureRegion is loaded when it is first requested.
      * @param x x-coordinate of EntryPoint in the game
      * @param y y-coordinate of EntryPoint in the game
      */
     public EntryPoint(float x, float y) {
         super(x, y);
-        textureRegion = new TextureRegion(new Texture(Gdx.files.internal("basictiles.png")), 0, 112, 16, 16);
     }
 
     public TextureRegion getTextureRegion() {
+        if (textureRegion == null) {
+            textureRegion = TextureRegistry.getRegion("basictiles", 0, 112, 16, 16);
+        }
         return textureRegion;
     }
 
     /**
-     * Disposes EntryPoint texture
+     * Releases the EntryPoint texture. The texture is shared and disposed by TextureRegistry.
      */
     @Override
     public void disposeTx() {
-        textureRegion.getTexture().dispose();
+        textureRegion = null;
     }
 }
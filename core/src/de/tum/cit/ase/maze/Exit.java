@@ -1,12 +1,7 @@
 package de.tum.cit.ase.maze;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Exit class is responsible for holding all the exists in the game and their texture.
  * It also implements Add and DisposeTextureRegion enabling addition of exits to the existing
@@ -14,44 +9,46 @@
  */
 public class Exit implements Add<Number>, DisposeTextureRegion {
 
-    private final TextureRegion textureRegion;
+    private TextureRegion textureRegion; // loaded on first use, so exits can also be created without graphics
 
-    private final List<Coordinate<Number>> exits; // List of all exits in the game
+    private final CoordinateArray exits; // List of all exits in the game
 
     /**
-     * Constructor for Exit. Initializes exits list and assigns the correct textureRegion
+     * Constructor for Exit. Initializes exits list. The textureRegion is loaded when it is first requested.
      */
     public Exit() {
-        exits = new ArrayList<>();
-        textureRegion = new TextureRegion(new Texture(Gdx.files.internal("things.png")), 0, 0, 16, 16);
+        exits = new CoordinateArray();
     }
 
     /**
-     * Creates and adds a Coordinate type object to the exits list
+     * Adds the coordinates of a new element to exits
      *
-     * @param x sets the x-coordinate of the newly created Coordinate type object.
-     * @param y sets the y-coordinate of the newly created Coordinate type object.
+     * @param x x-coordinate of the new element.
+     * @param y y-coordinate of the new element.
      */
     @Override
-    public void add(Number x, Number y) {
-        exits.add(new Coordinate<>(x, y));
+    public void add(float x, float y) {
+        exits.add(x, y);
     }
 
     /**
-     * Disposes the exit texture
+     * Releases the exit texture. The texture is shared and disposed by TextureRegistry.
      */
     @Override
     public void disposeTx() {
-        textureRegion.getTexture().dispose();
+        textureRegion = null;
     }
 
 
     // getters for the attributes
     public TextureRegion getTextureRegion() {
+        if (textureRegion == null) {
+            textureRegion = TextureRegistry.getRegion("things", 0, 0, 16, 16);
+        }
         return textureRegion;
     }
 
-    public List<Coordinate<Number>> getExits() {
+    public CoordinateArray getExits() {
         return exits;
     }
 
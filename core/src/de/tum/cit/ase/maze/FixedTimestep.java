@@ -0,0 +1,77 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * The FixedTimestep class decouples the simulation from the frame rate. The time of every
+ * rendered frame is collected in an accumulator and the simulation is advanced in steps of
+ * a fixed length, so movement, collisions and timers behave the same on slow and fast
+ * machines. The time left in the accumulator is used to interpolate between the last two
+ * simulation steps while rendering.
+ */
+public class FixedTimestep {
+    public static final int DEFAULT_TICK_RATE = 120; // simulation steps per second
+    public static final float MAX_FRAME_TIME = 0.25f; // longer frames are cut, so a slow frame cannot cause more and more steps
+
+    private final float stepTime; // length of one simulation step in seconds
+    private final int maxSteps; // maximum number of simulation steps per frame
+    private float accumulator; // frame time not simulated yet
+
+    /**
+     * Constructor for FixedTimestep.
+     *
+     * @param tickRate number of simulation steps per second.
+     */
+    public FixedTimestep(int tickRate) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("Invalid tick rate: " + tickRate);
+        }
+        stepTime = 1f / tickRate;
+        maxSteps = (int) Math.ceil(MAX_FRAME_TIME * tickRate);
+    }
+
+    /**
+     * Adds the time of a rendered frame to the accumulator. The frame time is clamped to
+     * MAX_FRAME_TIME, e.g. after the window was dragged or the game was paused by the debugger.
+     *
+     * @param delta the time in seconds since the last frame.
+     */
+    public void addFrameTime(float delta) {
+        accumulator += Math.min(Math.max(delta, 0f), MAX_FRAME_TIME);
+        // Never fall behind by more than maxSteps, the rest of the time is dropped
+        accumulator = Math.min(accumulator, maxSteps * stepTime);
+    }
+
+    /**
+     * Takes the time of one simulation step out of the accumulator, if enough time is collected.
+     * Meant to be called in a loop, running one simulation step per returned true.
+     *
+     * @return true if the simulation has to advance by one more step.
+     */
+    public boolean nextStep() {
+        if (accumulator < stepTime) {
+            return false;
+        }
+        accumulator -= stepTime;
+        return true;
+    }
+
+    /**
+     * Returns how far the rendered frame is between the last simulation step and the next one.
+     *
+     * @return a value between 0 (last step) and 1 (next step).
+     */
+    public float getAlpha() {
+        return accumulator / stepTime;
+    }
+
+    /**
+     * Drops the time not simulated yet, e.g. when the game continues after being paused.
+     */
+    public void reset() {
+        accumulator = 0f;
+    }
+
+    // getters for the attributes
+    public float getStepTime() {
+        return stepTime;
+    }
+}
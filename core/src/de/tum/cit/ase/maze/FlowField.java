@@ -0,0 +1,221 @@
+package de.tum.cit.ase.maze;
+
+import java.util.Arrays;
+
+/**
+ * The FlowField class stores for every walkable tile of the maze the direction of the
+ * next step on a shortest path towards the character. It is filled by a breadth-first
+ * search starting from all tiles under the character's wall hitbox, and the search only
+ * runs again once the character enters another tile. Afterwards every enemy can look up
+ * its direction in constant time, so the cost does not grow with the number of enemies.
+ * The search can be limited to the tiles around the character, then neither its cost nor
+ * its memory grows with the size of the maze: the directions are only stored for a window
+ * of the searched tiles, which moves with the character, and all tiles outside of it are
+ * unreachable.
+ */
+public class FlowField {
+    // Values stored per tile besides the directions 0 left, 1 right, 2 up, 3 down
+    public static final byte TARGET = 4; // tile under the character
+    public static final byte UNREACHABLE = -1; // wall or tile without a path to the character
+
+    private final WallManager wallManager;
+    private final int columns;
+    private final int rows;
+    private final int searchRadius; // tiles around the character searched, the others stay unreachable
+    private final int windowColumns; // width of the window of stored tiles, the searched tiles always fit into it
+    private final int windowRows; // height of the window of stored tiles
+    private final byte[] directions; // next step direction of every tile in the window (index = windowY * windowColumns + windowX)
+    private final int[] queue; // reused by every search, holds the window indexes waiting to be visited
+    private int visitedCount; // number of tiles reached by the last search, they are the first ones in the queue
+
+    // Tile in the lower left corner of the window during the last search
+    private int originX;
+    private int originY;
+
+    // Tiles under the character's wall hitbox during the last search
+    private int minTileX = -1;
+    private int maxTileX = -1;
+    private int minTileY = -1;
+    private int maxTileY = -1;
+
+    /**
+     * Constructor for FlowField. Initializes the direction grid for all tiles of the walls
+     * of the given WallManager, with all tiles unreachable until the first update.
+     *
+     * @param wallManager the walls the paths have to go around.
+     */
+    public FlowField(WallManager wallManager) {
+        this(wallManager, Integer.MAX_VALUE / 2);
+    }
+
+    /**
+     * Constructor for FlowField searching only the tiles at most searchRadius tiles away from
+     * the character along each axis. Paths leaving this area are not found. The direction grid
+     * only covers these tiles, so it is never larger than (2 * searchRadius + 2)^2 tiles.
+     *
+     * @param wallManager  the walls the paths have to go around.
+     * @param searchRadius the distance in tiles.
+     */
+    public FlowField(WallManager wallManager, int searchRadius) {
+        this.wallManager = wallManager;
+        this.searchRadius = searchRadius;
+        columns = wallManager.getColumns();
+        rows = wallManager.getRows();
+        // The wall hitbox of the character covers at most two tiles along each axis
+        windowColumns = (int) Math.min(columns, 2L * searchRadius + 2);
+        windowRows = (int) Math.min(rows, 2L * searchRadius + 2);
+        directions = new byte[windowColumns * windowRows];
+        queue = new int[windowColumns * windowRows];
+        Arrays.fill(directions, UNREACHABLE);
+    }
+
+    /**
+     * Runs the breadth-first search again if the character at x,y covers other tiles
+     * than during the last search. Otherwise, the stored directions are still valid.
+     *
+     * @param x x-coordinate of the character
+     * @param y y-coordinate of the character
+     * @return true if the directions were computed again.
+     */
+    public boolean update(float x, float y) {
+        int left = (int) x + Hitbox.WALL_OFFSET;
+        int bottom = (int) y + Hitbox.WALL_OFFSET;
+        int newMinTileX = Math.floorDiv(left, WallManager.TILE_SIZE);
+        int newMaxTileX = Math.floorDiv(left + Hitbox.WALL_SIZE - 1, WallManager.TILE_SIZE);
+        int newMinTileY = Math.floorDiv(bottom, WallManager.TILE_SIZE);
+        int newMaxTileY = Math.floorDiv(bottom + Hitbox.WALL_SIZE - 1, WallManager.TILE_SIZE);
+
+        if (newMinTileX == minTileX && newMaxTileX == maxTileX && newMinTileY == minTileY && newMaxTileY == maxTileY) {
+            return false;
+        }
+        minTileX = newMinTileX;
+        maxTileX = newMaxTileX;
+        minTileY = newMinTileY;
+        maxTileY = newMaxTileY;
+
+        // Only the tiles reached by the last search have to be reset
+        for (int i = 0; i < visitedCount; i++) {
+            directions[queue[i]] = UNREACHABLE;
+        }
+        // The window starts searchRadius tiles before the character, but stays inside the maze
+        originX = Math.max(Math.min(minTileX - searchRadius, columns - windowColumns), 0);
+        originY = Math.max(Math.min(minTileY - searchRadius, rows - windowRows), 0);
+        int head = 0;
+        int tail = 0;
+
+        // All tiles under the character are the sources of the search
+        for (int tileY = minTileY; tileY <= maxTileY; tileY++) {
+            for (int tileX = minTileX; tileX <= maxTileX; tileX++) {
+                if (isWalkable(tileX, tileY)) {
+                    int index = (tileY - originY) * windowColumns + tileX - originX;
+                    directions[index] = TARGET;
+                    queue[tail++] = index;
+                }
+            }
+        }
+
+        while (head < tail) {
+            int index = queue[head++];
+            int tileX = originX + index % windowColumns;
+            int tileY = originY + index / windowColumns;
+
+            // The neighbour has to step back towards the current tile
+            tail = visit(tileX + 1, tileY, (byte) 0, tail); // right neighbour moves left
+            tail = visit(tileX - 1, tileY, (byte) 1, tail); // left neighbour moves right
+            tail = visit(tileX, tileY - 1, (byte) 2, tail); // neighbour below moves up
+            tail = visit(tileX, tileY + 1, (byte) 3, tail); // neighbour above moves down
+        }
+        visitedCount = tail;
+        return true;
+    }
+
+    /**
+     * Marks an unvisited walkable tile with the direction leading back to the tile it was reached from
+     * and adds it to the queue.
+     *
+     * @param tileX     x-coordinate of the neighbour tile
+     * @param tileY     y-coordinate of the neighbour tile
+     * @param direction direction from the neighbour towards the tile it was reached from
+     * @param tail      current end of the queue
+     * @return the new end of the queue.
+     */
+    private int visit(int tileX, int tileY, byte direction, int tail) {
+        if (tileX < minTileX - searchRadius || tileX > maxTileX + searchRadius
+                || tileY < minTileY - searchRadius || tileY > maxTileY + searchRadius || !isWalkable(tileX, tileY)) {
+            return tail;
+        }
+        int index = (tileY - originY) * windowColumns + tileX - originX;
+        if (directions[index] != UNREACHABLE) {
+            return tail;
+        }
+        directions[index] = direction;
+        queue[tail] = index;
+        return tail + 1;
+    }
+
+    /**
+     * Returns the direction a moving entity (Enemy) at x,y has to move in to follow the field.
+     * The entity is first centered on the axis it does not move along, so its wall hitbox
+     * fits into a single row/column before it turns and does not get stuck on wall corners.
+     *
+     * @param x        x-coordinate of the moving entity
+     * @param y        y-coordinate of the moving entity
+     * @param fallback direction returned if the entity has no path to the character or already reached it
+     * @return 0 left, 1 right, 2 up or 3 down.
+     */
+    public int steer(float x, float y, int fallback) {
+        // the tile containing the center of the entity's wall hitbox
+        int centerOffset = Hitbox.WALL_OFFSET + Hitbox.WALL_SIZE / 2;
+        int tileX = Math.floorDiv((int) x + centerOffset, WallManager.TILE_SIZE);
+        int tileY = Math.floorDiv((int) y + centerOffset, WallManager.TILE_SIZE);
+
+        int direction = getDirection(tileX, tileY);
+        if (direction == UNREACHABLE || direction == TARGET) {
+            return fallback;
+        }
+
+        if (direction == 0 || direction == 1) {
+            int offsetY = (int) y + Hitbox.WALL_OFFSET - tileY * WallManager.TILE_SIZE;
+            if (offsetY < 0) {
+                return 2;
+            } else if (offsetY + Hitbox.WALL_SIZE > WallManager.TILE_SIZE) {
+                return 3;
+            }
+        } else {
+            int offsetX = (int) x + Hitbox.WALL_OFFSET - tileX * WallManager.TILE_SIZE;
+            if (offsetX < 0) {
+                return 1;
+            } else if (offsetX + Hitbox.WALL_SIZE > WallManager.TILE_SIZE) {
+                return 0;
+            }
+        }
+        return direction;
+    }
+
+    /**
+     * Returns the stored direction of the given tile.
+     *
+     * @param tileX x-coordinate of the tile (not the pixel coordinate).
+     * @param tileY y-coordinate of the tile (not the pixel coordinate).
+     * @return 0 left, 1 right, 2 up, 3 down, TARGET or UNREACHABLE, also for tiles outside of the window.
+     */
+    public int getDirection(int tileX, int tileY) {
+        int windowX = tileX - originX;
+        int windowY = tileY - originY;
+        if (windowX < 0 || windowX >= windowColumns || windowY < 0 || windowY >= windowRows) {
+            return UNREACHABLE;
+        }
+        return directions[windowY * windowColumns + windowX];
+    }
+
+    /**
+     * Checks whether the given tile is inside the maze and not a wall.
+     *
+     * @param tileX x-coordinate of the tile (not the pixel coordinate).
+     * @param tileY y-coordinate of the tile (not the pixel coordinate).
+     * @return true if moving entities can walk on the tile.
+     */
+    private boolean isWalkable(int tileX, int tileY) {
+        return tileX >= 0 && tileX < columns && tileY >= 0 && tileY < rows && !wallManager.isWallTile(tileX, tileY);
+    }
+}
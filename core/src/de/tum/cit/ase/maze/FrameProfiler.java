@@ -0,0 +1,337 @@
+package de.tum.cit.ase.maze;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * FrameProfiler class measures where the time of a frame goes. The render loop marks
+ * the start of every frame and the phases inside it, and hands over the graphics
+ * counters at the end. The last HISTORY frames are kept for percentiles and averages,
+ * and every frame can be written to a CSV file for offline analysis.
+ * The allocated bytes per frame are taken from the thread allocation counter of the
+ * JVM if it has one, otherwise from the change of the used heap (MemoryMXBean), which
+ * ignores frames with a garbage collection.
+ * It only uses the JVM and no libGDX classes, so the MazeModel can mark its phases too.
+ */
+public class FrameProfiler {
+
+    /**
+     * Measured phases of a frame. The simulation contains the enemy AI and the character movement.
+     * Motion is the interpolation of the moving entities, the phases after it are the render systems.
+     */
+    public enum Phase {
+        SIMULATION, ENEMY_AI, CHARACTER_MOVE, STATIC_LAYER, MOTION, TRAPS, ENEMIES, COLLECTIBLES, CHARACTER, HUD
+    }
+
+    public static final int HISTORY = 600; // Number of frames kept for the statistics
+
+    private static final int PHASES = Phase.values().length;
+
+    private boolean enabled; // Nothing is measured while disabled
+
+    // Ring buffer of the last frames, index = frame % HISTORY
+    private final long[] frameNanos = new long[HISTORY]; // time between the starts of two frames
+    private final long[] cpuNanos = new long[HISTORY]; // time spent in render
+    private final long[][] phaseNanos = new long[HISTORY][PHASES];
+    private final long[] allocatedBytes = new long[HISTORY];
+    private long frameCount; // number of finished frames
+
+    // Current frame
+    private final long[] phaseStart = new long[PHASES];
+    private final long[] currentPhaseNanos = new long[PHASES];
+    private long frameStart;
+    private long previousFrameStart;
+    private long allocationStart;
+
+    // Counters of the last finished frame
+    private int renderCalls; // SpriteBatch.renderCalls, flushes of the last begin/end
+    private int batchFlushes; // increase of SpriteBatch.totalRenderCalls during the frame
+    private int drawCalls; // GL draw calls
+    private int textureBindings; // GL texture binds
+    private int sprites; // drawn sprites
+    private long gcCount; // garbage collections since the start of the JVM
+    private long gcMillis; // time spent in garbage collections since the start of the JVM
+
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+    private final com.sun.management.ThreadMXBean threadBean; // null if the JVM does not count allocations per thread
+
+    private BufferedWriter csvWriter; // Receives every finished frame while recording
+
+    /**
+     * Constructor for FrameProfiler. The profiler starts disabled.
+     */
+    public FrameProfiler() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean allocationBean && allocationBean.isThreadAllocatedMemorySupported()) {
+            allocationBean.setThreadAllocatedMemoryEnabled(true);
+            threadBean = allocationBean;
+        } else {
+            threadBean = null;
+        }
+    }
+
+    /**
+     * Marks the start of a frame.
+     */
+    public void beginFrame() {
+        if (!enabled) {
+            return;
+        }
+        previousFrameStart = frameStart;
+        frameStart = System.nanoTime();
+        Arrays.fill(currentPhaseNanos, 0L);
+        allocationStart = allocatedBytes();
+    }
+
+    /**
+     * Marks the start of a phase. Phases can be nested and measured several times per frame.
+     *
+     * @param phase the phase.
+     */
+    public void start(Phase phase) {
+        if (enabled) {
+            phaseStart[phase.ordinal()] = System.nanoTime();
+        }
+    }
+
+    /**
+     * Marks the end of a phase and adds its time to the current frame.
+     *
+     * @param phase the phase.
+     */
+    public void stop(Phase phase) {
+        if (enabled) {
+            currentPhaseNanos[phase.ordinal()] += System.nanoTime() - phaseStart[phase.ordinal()];
+        }
+    }
+
+    /**
+     * Marks the end of a frame with the graphics counters of the frame.
+     *
+     * @param renderCalls     SpriteBatch.renderCalls after the last end().
+     * @param batchFlushes    increase of SpriteBatch.totalRenderCalls during the frame.
+     * @param drawCalls       GL draw calls of the frame.
+     * @param textureBindings GL texture binds of the frame.
+     * @param sprites         drawn sprites of the frame.
+     */
+    public void endFrame(int renderCalls, int batchFlushes, int drawCalls, int textureBindings, int sprites) {
+        if (!enabled || previousFrameStart == 0) {
+            return; // The first frame after enabling has no frame time
+        }
+        int slot = (int) (frameCount % HISTORY);
+        frameNanos[slot] = frameStart - previousFrameStart;
+        cpuNanos[slot] = System.nanoTime() - frameStart;
+        System.arraycopy(currentPhaseNanos, 0, phaseNanos[slot], 0, PHASES);
+        allocatedBytes[slot] = Math.max(allocatedBytes() - allocationStart, 0);
+        frameCount++;
+
+        this.renderCalls = renderCalls;
+        this.batchFlushes = batchFlushes;
+        this.drawCalls = drawCalls;
+        this.textureBindings = textureBindings;
+        this.sprites = sprites;
+        gcCount = 0;
+        gcMillis = 0;
+        for (GarbageCollectorMXBean gcBean : gcBeans) {
+            gcCount += Math.max(gcBean.getCollectionCount(), 0);
+            gcMillis += Math.max(gcBean.getCollectionTime(), 0);
+        }
+
+        if (csvWriter != null) {
+            writeCsvRow(slot);
+        }
+    }
+
+    /**
+     * Returns the bytes allocated so far, by the current thread or by the whole heap.
+     */
+    private long allocatedBytes() {
+        if (threadBean != null) {
+            return threadBean.getCurrentThreadAllocatedBytes();
+        }
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Returns a percentile of the frame times in the history.
+     *
+     * @param percentile the percentile between 0 and 1.
+     * @return the frame time in milliseconds.
+     */
+    public float getFrameTimePercentile(double percentile) {
+        int frames = storedFrames();
+        if (frames == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(frameNanos, frames);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile * frames);
+        return sorted[Math.max(rank - 1, 0)] / 1e6f;
+    }
+
+    /**
+     * Returns the frames per second, averaged over the history.
+     *
+     * @return the frames per second.
+     */
+    public float getFps() {
+        long total = 0;
+        for (int i = 0; i < storedFrames(); i++) {
+            total += frameNanos[i];
+        }
+        return total == 0 ? 0 : storedFrames() * 1e9f / total;
+    }
+
+    /**
+     * Returns the average time of a phase per frame over the history.
+     *
+     * @param phase the phase.
+     * @return the time in milliseconds.
+     */
+    public float getAveragePhaseTime(Phase phase) {
+        int frames = storedFrames();
+        long total = 0;
+        for (int i = 0; i < frames; i++) {
+            total += phaseNanos[i][phase.ordinal()];
+        }
+        return frames == 0 ? 0 : total / 1e6f / frames;
+    }
+
+    /**
+     * Returns the average time spent in render per frame over the history.
+     *
+     * @return the time in milliseconds.
+     */
+    public float getAverageCpuTime() {
+        return average(cpuNanos) / 1e6f;
+    }
+
+    /**
+     * Returns the average allocated bytes per frame over the history.
+     *
+     * @return the allocated bytes.
+     */
+    public float getAverageAllocatedBytes() {
+        return average(allocatedBytes);
+    }
+
+    private float average(long[] values) {
+        int frames = storedFrames();
+        long total = 0;
+        for (int i = 0; i < frames; i++) {
+            total += values[i];
+        }
+        return frames == 0 ? 0 : (float) total / frames;
+    }
+
+    private int storedFrames() {
+        return (int) Math.min(frameCount, HISTORY);
+    }
+
+    /**
+     * Starts writing every finished frame into a CSV file.
+     *
+     * @param path path of the CSV file.
+     * @throws IOException If the file cannot be created.
+     */
+    public void startCsv(String path) throws IOException {
+        stopCsv();
+        csvWriter = new BufferedWriter(new FileWriter(path));
+        StringBuilder header = new StringBuilder("frame,frame_ms,cpu_ms");
+        for (Phase phase : Phase.values()) {
+            header.append(',').append(phase.name().toLowerCase(Locale.ROOT)).append("_ms");
+        }
+        header.append(",render_calls,batch_flushes,draw_calls,texture_bindings,sprites,allocated_bytes,gc_count,gc_ms");
+        csvWriter.write(header.toString());
+        csvWriter.newLine();
+    }
+
+    /**
+     * Stops writing the CSV file, if one is written.
+     */
+    public void stopCsv() {
+        if (csvWriter == null) {
+            return;
+        }
+        try {
+            csvWriter.close();
+        } catch (IOException e) {
+            System.err.println("Error closing profile CSV: " + e.getMessage());
+        }
+        csvWriter = null;
+    }
+
+    /**
+     * Writes the frame in the given slot of the history as a CSV row.
+     */
+    private void writeCsvRow(int slot) {
+        StringBuilder row = new StringBuilder();
+        row.append(frameCount - 1).append(',').append(frameNanos[slot] / 1e6).append(',').append(cpuNanos[slot] / 1e6);
+        for (int phase = 0; phase < PHASES; phase++) {
+            row.append(',').append(phaseNanos[slot][phase] / 1e6);
+        }
+        row.append(',').append(renderCalls).append(',').append(batchFlushes).append(',').append(drawCalls)
+                .append(',').append(textureBindings).append(',').append(sprites).append(',').append(allocatedBytes[slot])
+                .append(',').append(gcCount).append(',').append(gcMillis);
+        try {
+            csvWriter.write(row.toString());
+            csvWriter.newLine();
+        } catch (IOException e) {
+            System.err.println("Error writing profile CSV: " + e.getMessage());
+            stopCsv();
+        }
+    }
+
+    // getters and setters for different attributes
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            frameStart = 0; // The time while disabled is not a frame
+        }
+        this.enabled = enabled;
+    }
+
+    public boolean isRecordingCsv() {
+        return csvWriter != null;
+    }
+
+    public int getRenderCalls() {
+        return renderCalls;
+    }
+
+    public int getBatchFlushes() {
+        return batchFlushes;
+    }
+
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    public int getTextureBindings() {
+        return textureBindings;
+    }
+
+    public int getSprites() {
+        return sprites;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public long getGcMillis() {
+        return gcMillis;
+    }
+}
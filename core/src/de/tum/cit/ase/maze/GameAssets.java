@@ -0,0 +1,64 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+
+/**
+ * The GameAssets class lists the textures and sounds needed by the GameScreen. They are
+ * queued in the AssetCache of MazeRunnerGame by the LoadingScreen, which loads them
+ * step by step while showing the progress, and are acquired from there by the GameScreen.
+ */
+public final class GameAssets {
+
+    // Textures
+    public static final String WORLD_ATLAS = TextureRegistry.ATLAS_PATH; // All sprite sheets of the world
+    public static final String GAME_OVER_TEXT = "gameover-removebg-preview.jpg"; //https://opengameart.org/content/game-over-5
+    public static final String GAME_WIN_TEXT = "gamewin-removebg-preview.jpg";
+
+    // Sounds
+    public static final String SPEED_UP_SOUND = "speedUp.wav"; // Played when player collects a speedUp or heart collectible
+    public static final String KEY_SOUND = "key.wav"; // Played when player collects the key
+    public static final String HIT_SOUND = "lifelost.ogg"; // Played when player hits an enemy or any trap
+    public static final String GAME_OVER_SOUND = "death.wav"; // Played if game lost
+    public static final String ENEMY_SPEED_UP_SOUND = "enemySpeedUp.wav"; // Played when player steps on an enemy speedUp collectible
+    public static final String WIN_SOUND = "win.wav"; // Played if game won
+
+    private static final String[] TEXTURES = {GAME_OVER_TEXT, GAME_WIN_TEXT};
+    private static final String[] SOUNDS = {SPEED_UP_SOUND, KEY_SOUND, HIT_SOUND, GAME_OVER_SOUND,
+            ENEMY_SPEED_UP_SOUND, WIN_SOUND};
+
+    private GameAssets() {
+    }
+
+    /**
+     * Queues all assets of the GameScreen in the AssetCache. Assets which were requested
+     * before are not loaded again.
+     *
+     * @param assetCache the AssetCache loading the assets.
+     */
+    public static void queue(AssetCache assetCache) {
+        assetCache.queue(WORLD_ATLAS, TextureAtlas.class);
+        for (String texture : TEXTURES) {
+            assetCache.queue(texture, Texture.class);
+        }
+        for (String sound : SOUNDS) {
+            assetCache.queue(sound, Sound.class);
+        }
+    }
+
+    /**
+     * Releases all assets of the GameScreen, after they were acquired from the AssetCache.
+     *
+     * @param assetCache the AssetCache holding the assets.
+     */
+    public static void release(AssetCache assetCache) {
+        assetCache.release(WORLD_ATLAS);
+        for (String texture : TEXTURES) {
+            assetCache.release(texture);
+        }
+        for (String sound : SOUNDS) {
+            assetCache.release(sound);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * GameEntities class creates the entities of all game elements of a MazeModel which are
+ * drawn by the render systems: traps, enemies, keys, extra collectibles, the entry point
+ * and the character. Walls, roads and exits are drawn by the StaticLayer instead.
+ * The entities are only a render layer over the model: they mirror the positions and
+ * textures of the game elements, while the MazeModel stays the only owner of the
+ * movement, the collisions and the damage, so replays and batch simulations run
+ * without an engine. The entities are added in drawing order, which the systems keep
+ * within every layer.
+ */
+public final class GameEntities {
+
+    private GameEntities() {
+    }
+
+    /**
+     * Adds the entities of all drawn game elements of the model to the engine.
+     *
+     * @param engine             the engine.
+     * @param model              the model of the game.
+     * @param speedUpRegion      texture of the character speedUp collectible.
+     * @param enemySpeedUpRegion texture of the enemy speedUp collectible.
+     * @param heartRegion        texture of the character lives increase collectible.
+     */
+    public static void addAll(Engine engine, MazeModel model, TextureRegion speedUpRegion,
+                              TextureRegion enemySpeedUpRegion, TextureRegion heartRegion) {
+        CoordinateArray traps = model.getTrap().getTraps();
+        for (int i = 0; i < traps.size(); i++) {
+            engine.addEntity(new Entity()
+                    .add(new PositionComponent(traps.getX(i), traps.getY(i)))
+                    .add(new SpriteComponent(model.getTrap().getAnimation(), null, 64, 64))
+                    .add(new TrapComponent()));
+        }
+
+        for (Enemy enemy : model.getEnemies()) {
+            engine.addEntity(new Entity()
+                    .add(new PositionComponent(enemy.getX(), enemy.getY()))
+                    .add(new BodyComponent(enemy))
+                    .add(new SpriteComponent(null, enemy.getCurrentTr(), 64, 64))
+                    .add(new EnemyComponent(enemy)));
+        }
+
+        InteractionIndex interactions = model.getInteractions();
+        addPickups(engine, interactions, model.getKey().getKeys(), model.getKey().getTextureRegion(), InteractionIndex.KEY);
+        addPickups(engine, interactions, model.getEnemySpeedUpCoordinates(), enemySpeedUpRegion, InteractionIndex.ENEMY_SPEED_UP);
+        addPickups(engine, interactions, model.getHeartCoordinates(), heartRegion, InteractionIndex.HEART);
+        addPickups(engine, interactions, model.getSpeedUpCoordinates(), speedUpRegion, InteractionIndex.SPEED_UP);
+
+        EntryPoint entryPoint = model.getEntryPoint();
+        engine.addEntity(new Entity()
+                .add(new PositionComponent(entryPoint.getX(), entryPoint.getY()))
+                .add(new SpriteComponent(null, entryPoint.getTextureRegion(), 64, 64)));
+
+        Character character = model.getCharacter();
+        engine.addEntity(new Entity()
+                .add(new PositionComponent(character.getX(), character.getY()))
+                .add(new BodyComponent(character))
+                .add(new SpriteComponent(null, character.getCurrentTr(), 64, 128))
+                .add(new PlayerComponent(character)));
+    }
+
+    /**
+     * Adds an entity for every pickup of one kind, linked to the pickup in the InteractionIndex.
+     *
+     * @param engine       the engine.
+     * @param interactions the InteractionIndex of the model.
+     * @param coordinates  the coordinates of the pickups.
+     * @param region       the texture of the pickups.
+     * @param kind         the kind of the pickups, as in the InteractionIndex.
+     */
+    private static void addPickups(Engine engine, InteractionIndex interactions, CoordinateArray coordinates,
+                                   TextureRegion region, int kind) {
+        for (int i = 0; i < coordinates.size(); i++) {
+            engine.addEntity(new Entity()
+                    .add(new PositionComponent(coordinates.getX(i), coordinates.getY(i)))
+                    .add(new SpriteComponent(null, region, 64, 64))
+                    .add(new PickupComponent(kind, interactions.getElement(kind, i))));
+        }
+    }
+}
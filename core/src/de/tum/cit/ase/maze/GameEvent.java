@@ -0,0 +1,14 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * enum holds the events MazeModel reports to its GameEventListener, e.g. to play sounds.
+ */
+public enum GameEvent {
+    HIT, // Character lost a life by hitting an enemy or a trap
+    GAME_OVER, // Character lost its last life
+    KEY_COLLECTED, // Character collected a key
+    SPEED_UP_COLLECTED, // Character collected a character speedUp collectible
+    ENEMY_SPEED_UP_COLLECTED, // Character stepped on an enemy speedUp collectible
+    HEART_COLLECTED, // Character collected a lives increase collectible
+    GAME_WON // Character reached an exit with all keys
+}
@@ -0,0 +1,24 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * The GameEventListener enables the implementing class to react to events of the MazeModel.
+ */
+public interface GameEventListener {
+    /**
+     * Called by the MazeModel whenever a game event happens during a simulation step.
+     *
+     * @param event the event which happened.
+     */
+    void onGameEvent(GameEvent event);
+
+    /**
+     * Called by the MazeModel instead of onGameEvent() when the character collected an element,
+     * e.g. a key. By default only the event is reported.
+     *
+     * @param event   the event which happened, e.g. KEY_COLLECTED.
+     * @param element the collected element, its id in the InteractionIndex.
+     */
+    default void onPickup(GameEvent event, int element) {
+        onGameEvent(event);
+    }
+}
@@ -1,60 +1,53 @@
 package de.tum.cit.ase.maze;
 
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Family;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.ScreenUtils;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
-import com.badlogic.gdx.graphics.Color;
 
 /**
  * The GameScreen class is responsible for rendering the gameplay screen.
- * It handles the game logic and rendering of the game elements.
+ * The game logic lives in the MazeModel, which GameScreen advances with the
+ * player input on every render and then reads to draw the game elements.
  */
-public class GameScreen implements Screen {
+public class GameScreen implements Screen, GameEventListener {
 
     private final MazeRunnerGame game;
     private final OrthographicCamera camera;
-    private float sinusInput = 0f;
 
-    // Different Game Elements
+    private final MazeModel model; // Game state and rules of the chosen maze
+    private final StaticLayer staticLayer; // Walls, roads and exits of the chunks around the camera, built on demand
+    private final InputState inputState; // Movement buttons pressed by the player, passed to the model
+    private final FixedTimestep timestep; // Advances the model in fixed steps, independent of the frame rate
+    private final Replay replay; // Buttons of every step, saved on dispose if replays are recorded
+
+    // Different Game Elements, all owned by the model
     private final WallManager wallManager; // Responsible for all 3 kinds of maze walls
     private final Road road; // Responsible for all walkable paths in the maze
-    private Character character; // The main character in the game
-    private EntryPoint entryPoint; // Initial spawn location of the character
+    private final Character character; // The main character in the game
+    private final EntryPoint entryPoint; // Initial spawn location of the character
     private final Exit exit; // Responsible for all exists out of the maze
     private final Trap trap; // Responsible for all stationary traps/obstacles
     private final Key key; //Responsible for all the keys in the game
     private final List<Enemy> enemies; // Moving Enemies
 
-
-    private final Properties map;
-
-    // Every 8 second change the direction of enemies. Half of the time towards the character.
-    private float countDownEnemy = 16;
-    private boolean enemyIntelligent; // Whether enemy has intelligent movement
-    private final Random random;
-
-    // Extra Game Elements/collectibles (Bonus) in the game
-    private final TextureRegion speedUpTx; // Texture for character speedUp collectible
-    private final TextureRegion enemySpeedUpTx; // Texture for enemy speedUp collectible
-    private final TextureRegion heartRegion; // Texture for character lives increase collectible
-    private final List<Coordinate<Number>> speedUpCoordinates; // List of all character speedUp collectibles
-    private final List<Coordinate<Number>> enemySpeedUpCoordinates; // List of all enemy speedUp collectibles
-    private final List<Coordinate<Number>> heartCoordinates; // List of all character lives increase collectibles
-
-    //Maximum value of the x-coordinate/row number in the properties file
-    private final int mapsize;
+    // Entities of the traps, enemies, collectibles and character, drawn by the systems of the engine
+    private final Engine engine;
+    private final RenderContext renderContext; // Values of the current frame shared by the systems
+    private final PickupSystem pickupSystem; // Removes the entities of collected pickups
 
     // Game Sounds
     private final Sound speedUpAudio; // Played when player collects a speedUp collectible
@@ -64,22 +57,33 @@ public class GameScreen implements Screen {
     private final Sound win; // Played if game won
     private final Sound gameOver; // Played if game lost
 
-    private final int totalKeys; //Total number of available keys in the game
-    private boolean isGameLost;
-    private boolean isGameWon;
     private float gameEndTimer = 2f; // Initial value of timer when displaying gameWon/Lost status.
 
+    // Area of the maze visible to the camera, only game elements inside it (plus a margin) are drawn.
+    private float visibleLeft;
+    private float visibleRight;
+    private float visibleBottom;
+    private float visibleTop;
+
+    private final BitmapFont font; // Used to draw the performance overlay
+    private final FrameProfiler profiler; // Measures the phases of every frame
+    private final PerformanceOverlay performanceOverlay; // Shows the measurements, toggled with F3, CSV export with F4
+    private int drawnSprites; // Number of sprites drawn in the current frame
+
     private final Texture gameOverText;
     private final Texture gameWinText;
 
+    private boolean isDisposed; // Whether the resources of the GameScreen were disposed
+
     /**
-     * Constructor for GameScreen. Sets up the camera, font, sounds, basic game elements
-     * and extra collectibles in the game.
+     * Constructor for GameScreen. Sets up the camera, font, sounds and textures of
+     * the extra collectibles for the model of the chosen maze. The sounds and textures
+     * have to be loaded by the AssetCache before, see LoadingScreen.
      *
-     * @param game             The main game class, used to access global resources and methods.
-     * @param propertiesConfig filepath of the chosen maze file.
+     * @param game  The main game class, used to access global resources and methods.
+     * @param model The model of the chosen maze.
      */
-    public GameScreen(MazeRunnerGame game, String propertiesConfig) throws IOException {
+    public GameScreen(MazeRunnerGame game, MazeModel model) {
         this.game = game;
 
         // Create and configure the camera for the game view
@@ -88,595 +92,231 @@ public GameScreen(MazeRunnerGame game, String propertiesConfig) throws IOExcepti
         camera.zoom = 1.0f;
 
         // Get the font from the game's skin
-        BitmapFont font = game.getSkin().getFont("font");
-
-        //Initialize the required Sound attributes
-        speedUpAudio = Gdx.audio.newSound(Gdx.files.internal("speedUp.wav"));
-        keyAudio = Gdx.audio.newSound(Gdx.files.internal("key.wav"));
-        hit = Gdx.audio.newSound(Gdx.files.internal("lifelost.ogg"));
-        gameOver = Gdx.audio.newSound(Gdx.files.internal("death.wav"));
-        enSpeedUpAudio = Gdx.audio.newSound(Gdx.files.internal("enemySpeedUp.wav"));
-        win = Gdx.audio.newSound(Gdx.files.internal("win.wav"));
-
-
-        // Initialize the game elements
-        wallManager = new WallManager();
-        road = new Road();
-        exit = new Exit();
-        trap = new Trap();
-        key = new Key();
-        // ArrayList is better for randomly accessing elements for the movements.
-        enemies = new ArrayList<>();
-
-
-        random = new Random();
-
-        map = new Properties();
-        FileInputStream fileInputStream = new FileInputStream(propertiesConfig);
-        map.load(fileInputStream);
-        fileInputStream.close();
-
-        // Initializing the extra Collectibles' textures
-        heartRegion = new TextureRegion(new Texture(Gdx.files.internal("objects.png")), 0, 3 * 16, 16, 16);
-        speedUpTx = new TextureRegion(new Texture(Gdx.files.internal("basictiles.png")), 4 * 16, 5 * 16, 16, 16);
-        enemySpeedUpTx = new TextureRegion(new Texture(Gdx.files.internal("basictiles.png")), 3 * 16, 5 * 16, 16, 16);
-
-
-        // Maximum value of the x-coordinate/row number in the properties file.
-        // It is necessary instead of looping through the keySet, because we need to create road objects too.
-        mapsize = map.stringPropertyNames().stream().parallel().map(mapKey -> mapKey.split(",")).mapToInt(parts -> Integer.parseInt(parts[0])).reduce(0, Integer::max);
-
-
-        //Using mapSize to loop through the keySets and adding game elements according to the value of each keySet in the properties file
-        for (int width = 0; width <= mapsize; width++) {
-            for (int height = 0; height <= mapsize; height++) {
-                String value = map.getProperty(width + "," + height);
-                if (value == null) {
-                    // Adding roads for keySets within the mapSize but not present in the properties file.
-                    road.add(width * 64, height * 64);
-                } else {
-                    switch (value) {
-                        case "0" -> {
-                            // Adding wall for value 0
-                            String objBelow = map.getProperty(width + "," + (height - 1));
-
-                            if (isMiddleWall(width, height)) {
-                                // Check all sides, if all objects are walls, then middle wall.
-                                wallManager.addWall(width * 64, height * 64, WallType.MIDDLE);
-                            } else if (height == 0 || isMiddleWall(width, height - 1) || objBelow == null || !objBelow.equals("0")) {
-                                // else if it is the bottom wall or there is a road/middle wall below it then perspective wall
-                                wallManager.addWall(width * 64, height * 64, WallType.PERSPECTIVE);
-                            } else {
-                                // else regular wall (top-view)
-                                wallManager.addWall(width * 64, height * 64, WallType.REGULAR);
-                            }
-                        }
-
-                        case "1" -> {
-                            // Adding the entryPoint and main character for value 1
-                            entryPoint = new EntryPoint(width * 64, height * 64);
-                            character = new Character(width * 64, height * 64);
-                        }
-                        case "2" -> exit.add(width * 64, height * 64); // Adding exits for value 2
-                        case "3" -> {
-                            // Adding stationary trap and also road(beneath the trap) for value 3
-                            trap.add(width * 64, height * 64);
-                            road.add(width * 64, height * 64);
-                        }
-                        case "4" -> {
-                            // Adding enemy and also road (beneath the enemy) for value 4
-                            Enemy enemy = new Enemy(width * 64, height * 64);
-                            enemies.add(enemy);
-                            road.add(width * 64, height * 64);
-                        }
-                        case "5" -> {
-                            key.add(width * 64, height * 64);
-                            road.add(width * 64, height * 64);
-                        }
-                    }
-                }
-
-            }
-        }
-
-        //Total number of available keys in the game
-        totalKeys = key.getKeys().size();
-
-        Collections.shuffle(road.getRoads());
-
-        //Adding the Extra (Bonus) collectibles for the player in the maze
-        if ((float) (road.getRoads().size() / (wallManager.getMiddleWalls().size() + 1)) < 25) {
-            // Select random 4 road coordinates for each type of collectible.
-            List<Coordinate<Number>> selectedObjects = road.getRoads().subList(0, 12);
-            speedUpCoordinates = new ArrayList<>(selectedObjects.subList(0, 4));
-            enemySpeedUpCoordinates = new ArrayList<>(selectedObjects.subList(4, 8));
-            heartCoordinates = new ArrayList<>(selectedObjects.subList(8, 12));
-        }
-        // Smaller maps get 1 of each type of collectible.
-        else {
-            // Select random 1 road coordinate for each type of collectible.
-            List<Coordinate<Number>> selectedObjects = road.getRoads().subList(0, 3);
-            speedUpCoordinates = new ArrayList<>(selectedObjects.subList(0, 1));
-            enemySpeedUpCoordinates = new ArrayList<>(selectedObjects.subList(1, 2));
-            heartCoordinates = new ArrayList<>(selectedObjects.subList(2, 3));
-
-        }
-
-        gameOverText = new Texture(("gameover-removebg-preview.jpg")); //https://opengameart.org/content/game-over-5
-        gameWinText = new Texture(Gdx.files.internal("gamewin-removebg-preview.jpg"));
+        font = game.getSkin().getFont("font");
+
+        //Initialize the required Sound attributes, they are owned by the AssetCache
+        AssetCache assets = game.getAssetCache();
+        speedUpAudio = assets.acquire(GameAssets.SPEED_UP_SOUND, Sound.class);
+        keyAudio = assets.acquire(GameAssets.KEY_SOUND, Sound.class);
+        hit = assets.acquire(GameAssets.HIT_SOUND, Sound.class);
+        gameOver = assets.acquire(GameAssets.GAME_OVER_SOUND, Sound.class);
+        enSpeedUpAudio = assets.acquire(GameAssets.ENEMY_SPEED_UP_SOUND, Sound.class);
+        win = assets.acquire(GameAssets.WIN_SOUND, Sound.class);
+
+        // All world textures are drawn from the atlas loaded by the AssetCache
+        TextureRegistry.setAtlas(assets.acquire(GameAssets.WORLD_ATLAS, TextureAtlas.class));
+
+        // The game elements created from the maze file
+        this.model = model;
+        model.setListener(this);
+        inputState = new InputState();
+        timestep = new FixedTimestep(game.getTickRate());
+        replay = Replay.record(model, game.getTickRate());
+        profiler = new FrameProfiler();
+        model.setProfiler(profiler);
+        model.setEnemyPool(ForkJoinPool.commonPool()); // Large generated mazes have thousands of enemies
+        performanceOverlay = new PerformanceOverlay(profiler);
+
+        wallManager = model.getWallManager();
+        road = model.getRoad();
+        character = model.getCharacter();
+        entryPoint = model.getEntryPoint();
+        exit = model.getExit();
+        trap = model.getTrap();
+        key = model.getKey();
+        enemies = model.getEnemies();
+
+        staticLayer = new StaticLayer(model.getTileIndex(), road, exit, wallManager);
+
+        // Initializing the extra Collectibles' textures, they come from the shared atlas and are not disposed here
+        TextureRegion heartRegion = TextureRegistry.getRegion("objects", 0, 3 * 16, 16, 16);
+        TextureRegion speedUpTx = TextureRegistry.getRegion("basictiles", 4 * 16, 5 * 16, 16, 16);
+        TextureRegion enemySpeedUpTx = TextureRegistry.getRegion("basictiles", 3 * 16, 5 * 16, 16, 16);
+
+        // The entity systems only draw the game elements of the model, see GameEntities.
+        // They run in the order of their priority, every drawn layer is measured as a phase of the profiler
+        renderContext = new RenderContext(game.getSpriteBatch(), profiler);
+        engine = new Engine();
+        engine.addSystem(new MotionSystem(0, renderContext));
+        engine.addSystem(new SpriteRenderSystem(Family.all(PositionComponent.class, SpriteComponent.class, TrapComponent.class)
+                .get(), FrameProfiler.Phase.TRAPS, 1, renderContext));
+        engine.addSystem(new EnemyRenderSystem(model.getSimulationLod(), 2, renderContext));
+        engine.addSystem(new SpriteRenderSystem(Family.all(PositionComponent.class, SpriteComponent.class)
+                .exclude(TrapComponent.class, EnemyComponent.class, BodyComponent.class).get(), FrameProfiler.Phase.COLLECTIBLES, 3, renderContext));
+        engine.addSystem(new HudSystem(model, heartRegion, key.getTextureRegion(), 4, renderContext));
+        engine.addSystem(new CharacterRenderSystem(5, renderContext));
+        pickupSystem = new PickupSystem();
+        engine.addSystem(pickupSystem);
+        GameEntities.addAll(engine, model, speedUpTx, enemySpeedUpTx, heartRegion);
+
+        gameOverText = assets.acquire(GameAssets.GAME_OVER_TEXT, Texture.class);
+        gameWinText = assets.acquire(GameAssets.GAME_WIN_TEXT, Texture.class);
 
     }
 
 
     /**
-     * Method responsible for rendering game elements, updating camera, detecting interactions between
-     * character and other game elements, setting enemy movement directions and checking user input.     *
+     * Method responsible for advancing the model with the user input, rendering game
+     * elements, updating camera and showing the game won/lost status.
+     * The model is advanced in fixed steps of the tick rate, as many as fit into the
+     * collected frame time, and the moving elements are drawn interpolated between the
+     * last two steps.
      *
      * @param delta The time in seconds since the last render.
      */
     @Override
     public void render(float delta) {
+        performanceOverlay.beginFrame(game.getSpriteBatch());
 
         // Check for escape key press to go back to the MenuScreen
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             game.goToMenu(true); //Since by pressing ESCAPE we are pausing the game.
         }
 
-        ScreenUtils.clear(0, 0, 0, 1); // Clear the screen
-
-        camera.update(); // Update the camera
-
-
-        sinusInput += delta; // Increases with each render
-
-        // Set up and begin drawing with the sprite batch
-        game.getSpriteBatch().setProjectionMatrix(camera.combined);
-
-        // Decreases with each render. Used to change the direction of the enemies every 8 seconds.
-        countDownEnemy -= delta;
-
-        game.getSpriteBatch().begin();// Important to call this before drawing anything
-        // Draws the walls, roads and exits.
-
-        //Regular walls (top-view)
-        for (Coordinate<Number> wall : wallManager.getRegularWalls()) {
-            game.getSpriteBatch().draw(wallManager.getRegularTr(), wall.getX(), wall.getY(), 64, 64);
-        }
-
-        //Perspective walls
-        for (Coordinate<Number> wall : wallManager.getPerspectiveWalls()) {
-            game.getSpriteBatch().draw(wallManager.getPerspectiveTr(), wall.getX(), wall.getY(), 64, 64);
-        }
-
-        //Middle walls (Walls surrounded by other walls on all sides)
-        for (Coordinate<Number> wall : wallManager.getMiddleWalls()) {
-            game.getSpriteBatch().draw(wallManager.getMiddleTr(), wall.getX(), wall.getY(), 64, 64);
-        }
-
-        for (Coordinate<Number> roadXy : road.getRoads()) {
-            game.getSpriteBatch().draw(road.getTextureRegion(), roadXy.getX(), roadXy.getY(), 64, 64);
-        }
-
-        for (Coordinate<Number> exitXy : exit.getExits()) {
-            game.getSpriteBatch().draw(exit.getTextureRegion(), exitXy.getX(), exitXy.getY(), 64, 64);
-        }
-
-
-        // Draws the Traps, Enemies and Keys
-
-        //Traps
-        for (Coordinate<Number> trapXy : trap.getTraps()) {
-            game.getSpriteBatch().draw(trap.getAnimation().getKeyFrame(sinusInput, true), trapXy.getX(), trapXy.getY(), 64, 64);
-
-            // Detects character's collision with the trap.
-            if (character.detectCollision(trapXy.getX(), trapXy.getY())) {
-
-                //Checks if the coolDownTimer for character collision with enemies/traps is 0,
-                // i.e. no other collision with traps/enemies in the past 3 seconds.
-                if (character.getCoolDownTimer() == 0.0f) {
-
-                    // Decreases character lives by 1 ( only if >1)
-                    if (character.decreaseCharacterLives()) {
-                        hit.play();
-
-                    } else {
-                        isGameLost = true;
-                        gameOver.play();
-                    }
-                }
-            }
-        }
-
-        //Enemies
-        for (Enemy enemy : enemies) {
-
-            //Moves the enemies only if the game in not paused
-            if (game.isPaused()) {
-                moveEnemy(enemy);
-            }
-
-            // Detects character's collision with the enemy.
-            if (character.detectCollision(enemy.getX(), enemy.getY())) {
-
-                //Checks if the coolDownTimer for character collision with enemies/traps is 0,
-                // i.e. no other collision with traps/enemies in the past 3 seconds.
-                if (character.getCoolDownTimer() == 0.0f) {
-
-                    // Decreases character lives by 1 ( only if >1)
-                    if (character.decreaseCharacterLives()) {
-                        hit.play();
-
-                    } else {
-                        isGameLost = true;
-                        gameOver.play();
-                    }
-                }
-            }
-
-        }
-
-        // Keys
-        List<Coordinate<Number>> keys = this.key.getKeys();
-        for (int i = 0; i < keys.size(); i++) {
-            Coordinate<Number> keyCo = keys.get(i);
-
-            // Detects character's collision with the key.
-            if (character.detectCollision(keyCo.getX(), keyCo.getY())) {
-                keyAudio.play();
-
-                // Remove the key from the list
-                keys.remove(keyCo);
-                character.setNumKeys(character.getNumKeys() + 1);// Increases number of keys with the character
-            }
-
-            game.getSpriteBatch().draw(key.getTextureRegion(), keyCo.getX(), keyCo.getY(), 64, 64);
-        }
-
-        //Extra(Bonus) Collectibles
-
-        // Enemy speedUp Collectibles
-        if (enemySpeedUpCoordinates != null) {
-            for (int i = 0; i < enemySpeedUpCoordinates.size(); i++) {
-                game.getSpriteBatch().draw(enemySpeedUpTx, enemySpeedUpCoordinates.get(i).getX(), enemySpeedUpCoordinates.get(i).getY(), 64, 64);
-
-                //Detects character's collision with the Collectible.
-                if (character.detectCollision(enemySpeedUpCoordinates.get(i).getX(), enemySpeedUpCoordinates.get(i).getY())) {
-                    character.setCoolDownEnemy(8f); // Sets a coolDown Timer for enemy speed up
-                    enSpeedUpAudio.play(); // Plays speed up sound
-
-                    //Increases the speed of all enemies by 75%
-                    for (Enemy enemy : enemies) {
-                        enemy.setSpeed(enemy.getSpeed() * 1.75f);
-                    }
-                    // Removes the collectible with which the collision took place
-                    enemySpeedUpCoordinates.remove(enemySpeedUpCoordinates.get(i));
-                }
-            }
-        }
-
-
-        // Character lives increase collectibles
-        if (heartCoordinates != null) {
-            for (int i = 0; i < heartCoordinates.size(); i++) {
-                game.getSpriteBatch().draw(heartRegion, heartCoordinates.get(i).getX(), heartCoordinates.get(i).getY(), 64, 64);
-
-                //Detects character's collision with the Collectible.
-                if (character.detectCollision(heartCoordinates.get(i).getX(), heartCoordinates.get(i).getY())) {
-                    character.setCharacterLives(character.getCharacterLives() + 1); // Increases character lives by 1
-                    speedUpAudio.play();
-                    // Removes the collectible with which the collision took place
-                    heartCoordinates.remove(heartCoordinates.get(i));
-                }
-            }
-        }
-
-        // Character speedUp collectibles
-        if (speedUpCoordinates != null) {
-            for (int i = 0; i < speedUpCoordinates.size(); i++) {
-                game.getSpriteBatch().draw(speedUpTx, speedUpCoordinates.get(i).getX(), speedUpCoordinates.get(i).getY(), 64, 64);
-
-                //Detects character's collision with the Collectible.
-                if (character.detectCollision(speedUpCoordinates.get(i).getX(), speedUpCoordinates.get(i).getY())) {
-                    speedUpAudio.play();
-
-                    character.setCoolDownSpeedUp(8f); // Sets a Cool down timer for character speed up
-                    character.setSpeed(character.getSpeed() * 1.75f); // Increases Character speed by 75%
-
-                    // Removes the collectible with which the collision took place
-                    speedUpCoordinates.remove(speedUpCoordinates.get(i));
+        //Advances the game only if the game is not paused
+        if (game.isPaused()) {
+            inputState.setPressed(InputState.LEFT, Gdx.input.isKeyPressed(Input.Keys.LEFT));
+            inputState.setPressed(InputState.RIGHT, Gdx.input.isKeyPressed(Input.Keys.RIGHT));
+            inputState.setPressed(InputState.UP, Gdx.input.isKeyPressed(Input.Keys.UP));
+            inputState.setPressed(InputState.DOWN, Gdx.input.isKeyPressed(Input.Keys.DOWN));
+            timestep.addFrameTime(delta);
+            profiler.start(FrameProfiler.Phase.SIMULATION);
+            while (timestep.nextStep()) {
+                if (!model.isGameOver()) {
+                    replay.addStep(inputState.getButtons());
                 }
+                model.step(timestep.getStepTime(), inputState);
             }
+            profiler.stop(FrameProfiler.Phase.SIMULATION);
         }
+        float alpha = timestep.getAlpha(); // Position of this frame between the last two simulation steps
+        float characterX = character.getInterpolatedX(alpha);
+        float characterY = character.getInterpolatedY(alpha);
 
+        ScreenUtils.clear(0, 0, 0, 1); // Clear the screen
 
-        // Every 8 second change the direction of enemies. Half of the time towards the character.
-        if (countDownEnemy < 0) {
-            // Generate a random number between 0 and 3, every 8 seconds for enemy direction.
-            for (Enemy enemy : enemies) {
-                enemy.setDirection(random.nextInt(4));
-            }
-            enemyIntelligent = false;
-            countDownEnemy = 16;
-        } else if (!enemyIntelligent && countDownEnemy < 8) {
-            for (Enemy enemy : enemies) {
-                //Comparing character's position relative to the enemy and setting the enemy movement direction accordingly.
-
-                //First we take the difference between the x-coordinates of both character
-                //and enemy (difX) and then take difference between their y-coordinates (difY).
-                float difX = character.getX() - enemy.getX();
-                float difY = character.getY() - enemy.getY();
-
-                //Next, we compare the absolute values of both difX and difY.
-                if (Math.abs(difX) >= Math.abs(difY)) {
-                    if (difX <= 0) {
-                        enemy.setDirection(0); //enemy moves Left
-                    } else {
-                        enemy.setDirection(1); //enemy moves Right
-                    }
-                } else {
-                    if (difY <= 0) {
-                        enemy.setDirection(3); //enemy moves Down
-                    } else {
-                        enemy.setDirection(2);//enemy moves Up
-                    }
-                }
-            }
-
-            countDownEnemy = 8;
-            enemyIntelligent = true;
-        }
-
+        camera.update(); // Update the camera
 
         //Checks if the game is already won or lost.
-        if (isGameLost) {
-            dispose();
-
-            // To go MenuScreen after displaying the Game Over status
-            if (gameEndTimer <= 0) {
-                game.goToMenu(false);
-                gameOverText.dispose();
-                gameWinText.dispose();
-            }
-
-
-            game.getSpriteBatch().draw(gameOverText, (Gdx.graphics.getWidth() - gameOverText.getWidth()) / 2f,
-                    (Gdx.graphics.getHeight() - gameOverText.getHeight()) / 2f, gameOverText.getWidth(), gameOverText.getHeight());
-            game.backGroundGameStop(); //Stops game background music
-
-            gameEndTimer -= delta; //Decreasing the timer's initial value
-            camera.position.set((Gdx.graphics.getWidth()) / 2f, (Gdx.graphics.getHeight()) / 2f, 0); //Sets camera position to the centre
-            game.getSpriteBatch().end();
+        if (model.isGameOver()) {
+            renderGameEnd(delta);
             return;
-        } else if (isGameWon) {
-            dispose();
-
-            // To go MenuScreen after displaying the Game Won status
-            if (gameEndTimer <= 0) {
-                game.goToMenu(false);
+        }
 
-                gameOverText.dispose();
-                gameWinText.dispose();
-            }
+        float sinusInput = model.getSinusInput(); // Drives the animations
 
-            game.getSpriteBatch().draw(gameWinText, (Gdx.graphics.getWidth() - gameWinText.getWidth()) / 2f,
-                    (Gdx.graphics.getHeight() - gameWinText.getHeight()) / 2f, gameWinText.getWidth(), gameWinText.getHeight());
-            game.backGroundGameStop();//Stops game background music
+        updateVisibleArea();
 
-            gameEndTimer -= delta; //Decreasing the timer's initial value
-            camera.position.set((Gdx.graphics.getWidth()) / 2f, (Gdx.graphics.getHeight()) / 2f, 0); //Sets camera position to the centre
-            game.getSpriteBatch().end();
-            return;
+        // Draws the walls, roads and exits of the chunks visible to the camera, building the missing ones.
+        profiler.start(FrameProfiler.Phase.STATIC_LAYER);
+        drawnSprites = staticLayer.draw(camera, visibleLeft, visibleRight, visibleBottom, visibleTop);
+        profiler.stop(FrameProfiler.Phase.STATIC_LAYER);
 
-        }
+        // Set up and begin drawing with the sprite batch
+        game.getSpriteBatch().setProjectionMatrix(camera.combined);
 
-        //Resetting enemy speed once the cool down timer for enemy speedup reaches zero
-        if (!character.enemyCooldown(delta)) {
-            for (Enemy enemy : enemies) {
-                enemy.setSpeed(180);
-            }
-        }
+        game.getSpriteBatch().begin();// Important to call this before drawing anything
 
+        // Draws the Traps, Enemies, Keys and extra collectibles, the HUD and the main character
+        renderContext.beginFrame(alpha, sinusInput, visibleLeft, visibleRight, visibleBottom, visibleTop, drawnSprites);
+        engine.update(delta);
+        drawnSprites = renderContext.getDrawnSprites();
 
-        for (Coordinate<Number> exitCo : exit.getExits()) {
-            //Checks if the winning condition is satisfied
-            if (character.getNumKeys() == totalKeys && character.detectCollision(exitCo.getX(), exitCo.getY())) {
-                win.play();
-                isGameWon = true;
-            }
+        //Draws the performance overlay, toggled with F3. F4 writes the measurements of every frame into a CSV file
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            performanceOverlay.toggle();
         }
-
-        //Draws the entryPoint
-        game.getSpriteBatch().draw(entryPoint.getTextureRegion(), entryPoint.getX(), entryPoint.getY(), 64, 64);
-
-        //Draws the HUD elements
-        renderHUD();
-
-        //Moves the main character if the game is not paused
-        if (game.isPaused()) {
-            moveCharacter(delta);
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) {
+            performanceOverlay.toggleCsv();
         }
+        performanceOverlay.draw(game.getSpriteBatch(), font, visibleLeft + 10, visibleTop - 10, totalSprites());
 
         // Position the camera based on the character
-        camera.position.set(character.getX(), character.getY(), 0);
+        camera.position.set(characterX, characterY, 0);
         game.getSpriteBatch().end(); // Important to call this after drawing everything
+        performanceOverlay.endFrame(game.getSpriteBatch(), drawnSprites);
     }
 
 
     /**
-     * Method responsible for the moving enemy, detecting their collision with maze walls
-     * and drawing the enemy texture/animation accordingly.
+     * Shows the game won/lost status on an empty screen and goes back to the
+     * MenuScreen once the gameEndTimer ran out. The GameScreen is disposed by the
+     * game when switching to the MenuScreen, so this has to be the last call of render.
      *
-     * @param enemy Refers to the individual enemy that has to be moved.
+     * @param delta The time in seconds since the last render.
      */
-    private void moveEnemy(Enemy enemy) {
-        Animation<TextureRegion> currentAnimation = null;
-
-        if (Math.sin(sinusInput) >= enemy.getIdSinus() && Math.sin(sinusInput) < enemy.getIdSinus() + Enemy.enemyPower) {
-            // LEFT Direction
-            int direction = enemy.getDirection();
-            if (direction == 0) {
-                currentAnimation = enemy.moveLeft();
-            } else if (direction == 1) {
-                currentAnimation = enemy.moveRight();
-            } else if (direction == 2) {
-                currentAnimation = enemy.moveUp();
-            } else {
-                currentAnimation = enemy.moveDown();
-            }
+    private void renderGameEnd(float delta) {
+        Texture statusText = model.isGameLost() ? gameOverText : gameWinText;
+        boolean isTimerOver = gameEndTimer <= 0; // To go MenuScreen after displaying the Game Won/Lost status
 
-            if (wallManager.wallCollision(enemy.getX(), enemy.getY()) ||
-                    (direction == 0 && enemy.getX() < 0) ||
-                    (direction == 1 && enemy.getX() > mapsize * 64) ||
-                    (direction == 2 && enemy.getY() > mapsize * 64) ||
-                    (direction == 3 && enemy.getY() < 0)) {
-                enemy.setX(enemy.getPrevX());
-                enemy.setY(enemy.getPrevY());
-            } else {
-                if (direction == 0 || direction == 1) {
-                    enemy.setPrevX(enemy.getX());
-                } else {
-                    enemy.setPrevY(enemy.getY());
-                }
-            }
-        }
+        game.getSpriteBatch().setProjectionMatrix(camera.combined);
+        game.getSpriteBatch().begin();
+        game.getSpriteBatch().draw(statusText, (Gdx.graphics.getWidth() - statusText.getWidth()) / 2f,
+                (Gdx.graphics.getHeight() - statusText.getHeight()) / 2f, statusText.getWidth(), statusText.getHeight());
+        game.getSpriteBatch().end();
+        game.backGroundGameStop(); //Stops game background music
 
-        if (currentAnimation != null) {
-            //Draws the animation set in the above steps.
-            game.getSpriteBatch().draw(currentAnimation.getKeyFrame(sinusInput, true), enemy.getX(), enemy.getY(), 64, 64);
-        } else {
-            //Draws the texture currently set to the enemy.
-            game.getSpriteBatch().draw(enemy.getCurrentTr(), enemy.getX(), enemy.getY(), 64, 64);
+        gameEndTimer -= delta; //Decreasing the timer's initial value
+        camera.position.set((Gdx.graphics.getWidth()) / 2f, (Gdx.graphics.getHeight()) / 2f, 0); //Sets camera position to the centre
+
+        if (isTimerOver) {
+            game.goToMenu(false);
         }
     }
 
     /**
-     * Method responsible for checking and applying user input for character movement,
-     * detecting character's collision with maze walls and drawing character texture/
-     * animation accordingly. Also, changes character's colors if cool down timer for
-     * character speed up and/or collision with enemies/traps is currently active and
-     * decreases the timer value accordingly.
-     *
-     * @param delta The time in seconds since last render.
+     * Calculates the area of the maze visible to the camera.
      */
-
-    private void moveCharacter(float delta) {
-        Animation<TextureRegion> currentAnimation = null;
-
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
-            currentAnimation = character.moveLeft();
-
-            //Resetting character x,y coordinates to previous coordinates if wall collision detected (or)
-            // character is outside the leftmost x-coordinate of the maze.
-            if (wallManager.wallCollision(character.getX(), character.getY()) || character.getX() < 0) {
-                character.setX(character.getPrevX());
-                character.setY(character.getPrevY());
-            } else {
-                //Updating character PrevX value.
-                character.setPrevX(character.getX());
-            }
-        } else if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
-            currentAnimation = character.moveRight();
-
-            //Resetting character x,y coordinates to previous coordinates if wall collision detected (or)
-            // character is outside the rightmost x-coordinate of the maze.
-            if (wallManager.wallCollision(character.getX(), character.getY()) || (int) character.getX() > mapsize * 64) {
-                character.setX(character.getPrevX());
-                character.setY(character.getPrevY());
-            } else {
-                //Updating character PrevX value.
-                character.setPrevX(character.getX());
-            }
-        } else if (Gdx.input.isKeyPressed(Input.Keys.UP)) {
-            currentAnimation = character.moveUp();
-
-            //Resetting character x,y coordinates to previous coordinates if wall collision detected (or)
-            // character is outside the uppermost y-coordinate of the maze.
-            if (wallManager.wallCollision(character.getX(), character.getY()) || (int) character.getY() > mapsize * 64) {
-                character.setX(character.getPrevX());
-                character.setY(character.getPrevY());
-            } else {
-                //Updating character PrevY value.
-                character.setPrevY(character.getY());
-            }
-        } else if (Gdx.input.isKeyPressed(Input.Keys.DOWN)) {
-            currentAnimation = character.moveDown();
-
-            //Resetting character x,y coordinates to previous coordinates if wall collision detected (or)
-            // character is outside the bottom most y-coordinate of the maze.
-            if (wallManager.wallCollision(character.getX(), character.getY()) || character.getY() < 0) {
-                character.setX(character.getPrevX());
-                character.setY(character.getPrevY());
-            } else {
-                //Updating character PrevY value.
-                character.setPrevY(character.getY());
-            }
-        }
-
-        // Change the color of the character when cool down timer for character speed up and/or collision with an enemy/trap is active.
-        // Also, decreases the value(s) of the active timer(s) by the delta.
-
-        if (character.speedUpCooldown(delta) && character.startCoolDownTimer(delta)) {
-            game.getSpriteBatch().setColor(1.0f, 0.5f, 0.5f, 1.0f); //Reddish
-        } else if (character.speedUpCooldown(delta)) {
-            game.getSpriteBatch().setColor(0.5f, 1.0f, 0.5f, 1.0f);//Greenish
-        } else if (character.startCoolDownTimer(delta)) {
-            game.getSpriteBatch().setColor(1.0f, 0.5f, 0.5f, 1.0f);//Reddish
-        } else {
-            game.getSpriteBatch().setColor(Color.WHITE);//White
-        }
-
-
-        if (currentAnimation != null) {
-            //Draws the animation set to the character in the above steps.
-            game.getSpriteBatch().draw(currentAnimation.getKeyFrame(sinusInput, true), character.getX(), character.getY(), 64, 128);
-        } else {
-            //Draws the texture currently set to the character.
-            game.getSpriteBatch().draw(character.getCurrentTr(), character.getX(), character.getY(), 64, 128);
-        }
-        game.getSpriteBatch().setColor(Color.WHITE);
+    private void updateVisibleArea() {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+        visibleLeft = camera.position.x - halfWidth;
+        visibleRight = camera.position.x + halfWidth;
+        visibleBottom = camera.position.y - halfHeight;
+        visibleTop = camera.position.y + halfHeight;
     }
 
-
     /**
-     * Method responsible for drawing all the HUD elements in the game like
-     * character lives left and whether key has been collected.
+     * Counts all sprites of the game world, i.e. the number of sprites drawn without culling.
+     *
+     * @return the number of static tiles and entities.
      */
-    private void renderHUD() {
-        float itemSize = 32; //Determines the width and height of each HUD element
-        float padding = 10; //Padding between the elements
-        int totalHearts = character.getCharacterLives();
-        int keysCollected = character.getNumKeys();
-
-        float totalWidth = totalHearts * itemSize + (totalHearts - 1) * padding;
-
-        float startX = character.getX() - totalWidth / 2;
-        float keyY = character.getY() + 2 * (itemSize + padding) + 40;
-
-        //Drawing character lives left
-        for (int i = 0; i < totalHearts; i++) {
-            float heartX = startX + i * (itemSize + padding);
-            float heartY = character.getY() + 2 * (itemSize + padding) + 10;
+    private int totalSprites() {
+        return model.getTileIndex().getTileCount() + engine.getEntities().size();
+    }
 
-            game.getSpriteBatch().draw(heartRegion, heartX, heartY, itemSize, itemSize);
-        }
 
-        // Drawing total number of keys required with a shaded color.
-        for (int i = 0; i < totalKeys; i++) {
-            float keyX = startX + i * (itemSize + padding);
+    /**
+     * Removes the entity of an element collected by the character and plays its sound.
+     *
+     * @param event   the event which happened, e.g. KEY_COLLECTED.
+     * @param element the collected element, its id in the InteractionIndex.
+     */
+    @Override
+    public void onPickup(GameEvent event, int element) {
+        pickupSystem.removePickup(element);
+        onGameEvent(event);
+    }
 
-            Color shadingColor = new Color(0.2f, 0.2f, 0.2f, 1f);
-            game.getSpriteBatch().setColor(shadingColor);
-            game.getSpriteBatch().draw(key.getTextureRegion(), keyX, keyY, itemSize, itemSize);
-            game.getSpriteBatch().setColor(Color.WHITE);
-        }
 
-        //Drawing keys collected by the player
-        for (int i = 0; i < keysCollected; i++) {
-            float keyX = startX + i * (itemSize + padding);
-            game.getSpriteBatch().draw(key.getTextureRegion(), keyX, keyY, itemSize, itemSize);
+    /**
+     * Plays the sound belonging to a game event reported by the model.
+     *
+     * @param event the event which happened.
+     */
+    @Override
+    public void onGameEvent(GameEvent event) {
+        switch (event) {
+            case HIT -> hit.play();
+            case GAME_OVER -> gameOver.play();
+            case KEY_COLLECTED -> keyAudio.play();
+            case SPEED_UP_COLLECTED, HEART_COLLECTED -> speedUpAudio.play();
+            case ENEMY_SPEED_UP_COLLECTED -> enSpeedUpAudio.play();
+            case GAME_WON -> win.play();
         }
     }
 
+
     /**
      * Called when GameScreen is resized. Sets the camera position
      * to character's coordinates.
@@ -691,10 +331,20 @@ public void resize(int width, int height) {
     }
 
     /**
-     * Disposes all GameScreen resources.
+     * Disposes all GameScreen resources and releases the assets acquired from the
+     * AssetCache, which keeps them for the next game. Further calls do nothing.
      */
     @Override
     public void dispose() {
+        if (isDisposed) {
+            return;
+        }
+        isDisposed = true;
+        saveReplay();
+        performanceOverlay.dispose();
+        GameAssets.release(game.getAssetCache());
+        staticLayer.dispose();
+        engine.removeAllEntities();
 
         character.disposeTx();
 
@@ -708,43 +358,26 @@ public void dispose() {
         wallManager.disposeTx();
         exit.disposeTx();
 
-        enemySpeedUpTx.getTexture().dispose();
-        speedUpTx.getTexture().dispose();
-        heartRegion.getTexture().dispose();
-
     }
 
 
     /**
-     * Checks if a wall (value 0) exists for the given keypair in the maze file.
-     *
-     * @param width  the first digit in the keypair.
-     * @param height the second digit in the keypair.
-     * @return true if wall (value 0) exists for the given keypair.
+     * Writes the replay of the game into the replay directory of the game, if one is set.
+     * The replay can be simulated again with the ReplayTool of the desktop launcher.
      */
-    private boolean isWall(int width, int height) {
-        String key = width + "," + height;
-        String value = this.map.getProperty(key);
-        return value != null && value.equals("0");
+    private void saveReplay() {
+        if (game.getReplayDirectory() == null || replay.getStepCount() == 0) {
+            return;
+        }
+        replay.finish(model);
+        String path = game.getReplayDirectory() + "/replay-" + System.currentTimeMillis() + Replay.EXTENSION;
+        try {
+            replay.write(path);
+        } catch (IOException e) {
+            System.err.println("Error saving replay: " + e.getMessage());
+        }
     }
 
-    /**
-     * Checks if the wall(value 0) stored in the given keypair represents
-     * a middle wall (wall surrounded by other walls on all sides).
-     *
-     * @param width  the first digit in the keypair.
-     * @param height the second digit in the keypair.
-     * @return true if wall stored in the given keypair is a middle wall.
-     */
-    private boolean isMiddleWall(int width, int height) {
-        boolean rightSide = isWall(width + 1, height); //Checks for wall on the right side of given wall.
-        boolean leftSide = isWall(width - 1, height); //Checks for wall on the left side of given wall.
-        boolean belowSide = isWall(width, height - 1);//Checks for wall below the given wall.
-        boolean upSide = isWall(width, height + 1); //Checks for wall above the given wall.
-
-        return rightSide && leftSide && belowSide && upSide;
-
-    }
 
     // The following methods are part of the Screen interface but are not used in this screen.
     @Override
@@ -757,6 +390,7 @@ public void resume() {
 
     @Override
     public void show() {
+        timestep.reset(); // The time spent in the menu is not simulated
     }
 
     @Override
@@ -0,0 +1,36 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * Hitbox class holds the hitbox sizes of the game elements and the overlap check
+ * between two axis-aligned boxes. The check works on primitive values only, so
+ * collision detection does not create any objects, even when it runs for every
+ * game element on every frame.
+ */
+public final class Hitbox {
+    public static final int DYNAMIC_SIZE = 64; // hitbox of a moving entity (Enemy/Character) against other game elements
+    public static final int TARGET_SIZE = 32; // hitbox of traps, enemies, keys, collectibles and exits
+    public static final int WALL_OFFSET = 20; // offset of a moving entity's wall hitbox from its coordinates
+    public static final int WALL_SIZE = 32; // hitbox of a moving entity against the maze walls
+
+    private Hitbox() {
+    }
+
+    /**
+     * Checks whether two axis-aligned boxes overlap. Boxes which only touch at their
+     * edges do not overlap, same as in libGDX's Rectangle.overlaps().
+     *
+     * @param x1      x-coordinate of the lower left corner of the first box.
+     * @param y1      y-coordinate of the lower left corner of the first box.
+     * @param width1  width of the first box.
+     * @param height1 height of the first box.
+     * @param x2      x-coordinate of the lower left corner of the second box.
+     * @param y2      y-coordinate of the lower left corner of the second box.
+     * @param width2  width of the second box.
+     * @param height2 height of the second box.
+     * @return true if the boxes overlap.
+     */
+    public static boolean overlaps(float x1, float y1, float width1, float height1,
+                                   float x2, float y2, float width2, float height2) {
+        return x1 < x2 + width2 && x1 + width1 > x2 && y1 < y2 + height2 && y1 + height1 > y2;
+    }
+}
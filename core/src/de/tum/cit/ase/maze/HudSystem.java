@@ -0,0 +1,99 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * HudSystem draws all the HUD elements in the game like character lives left and
+ * whether key has been collected, above the entity of the character.
+ */
+public class HudSystem extends EntitySystem {
+    private static final Color SHADING = new Color(0.2f, 0.2f, 0.2f, 1f); // Keys which are not collected yet
+
+    private final MazeModel model;
+    private final TextureRegion heartRegion;
+    private final TextureRegion keyRegion;
+    private final RenderContext context;
+    private ImmutableArray<Entity> players;
+
+    /**
+     * Constructor for HudSystem.
+     *
+     * @param model       the model, which knows the number of keys.
+     * @param heartRegion texture of a character life.
+     * @param keyRegion   texture of a key.
+     * @param priority    order of the system in the engine, lower is drawn first.
+     * @param context     the shared values of the frame.
+     */
+    public HudSystem(MazeModel model, TextureRegion heartRegion, TextureRegion keyRegion, int priority, RenderContext context) {
+        super(priority);
+        this.model = model;
+        this.heartRegion = heartRegion;
+        this.keyRegion = keyRegion;
+        this.context = context;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        players = engine.getEntitiesFor(Family.all(PositionComponent.class, PlayerComponent.class).get());
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        context.getProfiler().start(FrameProfiler.Phase.HUD);
+        for (int i = 0; i < players.size(); i++) {
+            PositionComponent position = PositionComponent.MAPPER.get(players.get(i));
+            drawHud(PlayerComponent.MAPPER.get(players.get(i)).character, position.x, position.y);
+        }
+        context.getProfiler().stop(FrameProfiler.Phase.HUD);
+    }
+
+    /**
+     * Draws the lives and keys of the character above it.
+     *
+     * @param character  the character.
+     * @param characterX The interpolated x-coordinate of the character.
+     * @param characterY The interpolated y-coordinate of the character.
+     */
+    private void drawHud(Character character, float characterX, float characterY) {
+        SpriteBatch batch = context.getBatch();
+        int totalKeys = model.getTotalKeys();
+        float itemSize = 32; //Determines the width and height of each HUD element
+        float padding = 10; //Padding between the elements
+        int totalHearts = character.getCharacterLives();
+        int keysCollected = character.getNumKeys();
+
+        float totalWidth = totalHearts * itemSize + (totalHearts - 1) * padding;
+
+        float startX = characterX - totalWidth / 2;
+        float keyY = characterY + 2 * (itemSize + padding) + 40;
+
+        //Drawing character lives left
+        for (int i = 0; i < totalHearts; i++) {
+            float heartX = startX + i * (itemSize + padding);
+            float heartY = characterY + 2 * (itemSize + padding) + 10;
+
+            batch.draw(heartRegion, heartX, heartY, itemSize, itemSize);
+        }
+
+        // Drawing total number of keys required with a shaded color.
+        batch.setColor(SHADING);
+        for (int i = 0; i < totalKeys; i++) {
+            float keyX = startX + i * (itemSize + padding);
+            batch.draw(keyRegion, keyX, keyY, itemSize, itemSize);
+        }
+        batch.setColor(Color.WHITE);
+
+        //Drawing keys collected by the player
+        for (int i = 0; i < keysCollected; i++) {
+            float keyX = startX + i * (itemSize + padding);
+            batch.draw(keyRegion, keyX, keyY, itemSize, itemSize);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * InputState class holds the movement buttons pressed by the player for one
+ * simulation step as a bitmask. It decouples MazeModel from the libGDX input,
+ * so the simulation can also be driven by scripts or tests.
+ */
+public class InputState {
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int UP = 1 << 2;
+    public static final int DOWN = 1 << 3;
+
+    private int buttons; // bitmask of the pressed buttons
+
+    /**
+     * Marks the given button as pressed or released.
+     *
+     * @param button  one of LEFT, RIGHT, UP, DOWN.
+     * @param pressed whether the button is pressed.
+     */
+    public void setPressed(int button, boolean pressed) {
+        if (pressed) {
+            buttons |= button;
+        } else {
+            buttons &= ~button;
+        }
+    }
+
+    /**
+     * Checks whether the given button is pressed.
+     *
+     * @param button one of LEFT, RIGHT, UP, DOWN.
+     * @return true if the button is pressed.
+     */
+    public boolean isPressed(int button) {
+        return (buttons & button) != 0;
+    }
+
+    // getter and setter for the bitmask
+    public int getButtons() {
+        return buttons;
+    }
+
+    public void setButtons(int buttons) {
+        this.buttons = buttons;
+    }
+}
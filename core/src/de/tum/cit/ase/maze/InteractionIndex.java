@@ -0,0 +1,180 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.utils.IntIntMap;
+
+import java.util.Arrays;
+
+/**
+ * InteractionIndex class finds the stationary game elements the character touches
+ * without checking all of them. Every trap, key, exit and collectible is put into a
+ * bucket of the tile it lies on, and a hash map leads from the tile id to the first
+ * element of the bucket. The character only checks the few tiles its hitbox can reach,
+ * so the cost of a step does not grow with the number of elements in the maze.
+ * The index stays in sync with the CoordinateArrays drawn by the GameScreen: removing a
+ * picked-up element takes constant time and also removes it from its CoordinateArray.
+ */
+public class InteractionIndex {
+    // Kinds of the indexed game elements
+    public static final int TRAP = 0;
+    public static final int KEY = 1;
+    public static final int EXIT = 2;
+    public static final int SPEED_UP = 3;
+    public static final int ENEMY_SPEED_UP = 4;
+    public static final int HEART = 5;
+    private static final int KINDS = 6;
+
+    private static final int NONE = -1;
+
+    private final int columns;
+    private final int rows;
+    private final IntIntMap buckets; // tile id (tileY * columns + tileX) -> first element on the tile
+    private final CoordinateArray[] coordinates = new CoordinateArray[KINDS]; // drawn coordinates of every kind
+    private final int[][] elementAt = new int[KINDS][]; // index in the CoordinateArray of a kind -> element
+
+    // Elements, stored in parallel arrays
+    private int[] kinds = new int[16];
+    private int[] indexes = new int[16]; // index of the element in the CoordinateArray of its kind
+    private int[] tiles = new int[16]; // tile id of the element
+    private int[] next = new int[16]; // next element on the same tile, NONE at the end
+    private int size;
+
+    private int[] hits = new int[8]; // elements found by the last query
+    private int hitCount;
+
+    /**
+     * Constructor for InteractionIndex.
+     *
+     * @param columns number of tiles along the x-axis.
+     * @param rows    number of tiles along the y-axis.
+     */
+    public InteractionIndex(int columns, int rows) {
+        this.columns = columns;
+        this.rows = rows;
+        buckets = new IntIntMap();
+    }
+
+    /**
+     * Adds all elements of a kind. Elements removed later are also removed from the CoordinateArray.
+     *
+     * @param kind        one of the kinds, e.g. KEY.
+     * @param coordinates the coordinates of all elements of the kind.
+     */
+    public void addAll(int kind, CoordinateArray coordinates) {
+        this.coordinates[kind] = coordinates;
+        elementAt[kind] = new int[coordinates.size()];
+        for (int i = 0; i < coordinates.size(); i++) {
+            int tileX = Math.floorDiv((int) coordinates.getX(i), WallManager.TILE_SIZE);
+            int tileY = Math.floorDiv((int) coordinates.getY(i), WallManager.TILE_SIZE);
+            if (tileX < 0 || tileX >= columns || tileY < 0 || tileY >= rows) {
+                throw new IllegalArgumentException("Element outside the maze: " + coordinates.getX(i) + "," + coordinates.getY(i));
+            }
+            int tile = tileY * columns + tileX;
+
+            if (size == kinds.length) {
+                int capacity = size * 2;
+                kinds = Arrays.copyOf(kinds, capacity);
+                indexes = Arrays.copyOf(indexes, capacity);
+                tiles = Arrays.copyOf(tiles, capacity);
+                next = Arrays.copyOf(next, capacity);
+            }
+            kinds[size] = kind;
+            indexes[size] = i;
+            tiles[size] = tile;
+            next[size] = buckets.get(tile, NONE); // new elements go to the front of the bucket
+            buckets.put(tile, size);
+            elementAt[kind][i] = size;
+            size++;
+        }
+    }
+
+    /**
+     * Finds all elements colliding with the given moving entity, see DynamicCoordinate.detectCollision().
+     * The result is read with getHitCount(), getHitKind() and getHit().
+     *
+     * @param entity the character.
+     */
+    public void query(DynamicCoordinate<?> entity) {
+        hitCount = 0;
+        int x = (int) entity.getX();
+        int y = (int) entity.getY();
+        // Elements lie inside their tile, so only tiles within reach of the hitbox are checked
+        int minTileX = Math.max(Math.floorDiv(x - Hitbox.TARGET_SIZE, WallManager.TILE_SIZE), 0);
+        int maxTileX = Math.min(Math.floorDiv(x + Hitbox.DYNAMIC_SIZE - 1, WallManager.TILE_SIZE), columns - 1);
+        int minTileY = Math.max(Math.floorDiv(y - Hitbox.TARGET_SIZE, WallManager.TILE_SIZE), 0);
+        int maxTileY = Math.min(Math.floorDiv(y + Hitbox.DYNAMIC_SIZE - 1, WallManager.TILE_SIZE), rows - 1);
+
+        for (int tileY = minTileY; tileY <= maxTileY; tileY++) {
+            for (int tileX = minTileX; tileX <= maxTileX; tileX++) {
+                for (int element = buckets.get(tileY * columns + tileX, NONE); element != NONE; element = next[element]) {
+                    CoordinateArray kindCoordinates = coordinates[kinds[element]];
+                    int index = indexes[element];
+                    if (entity.detectCollision(kindCoordinates.getX(index), kindCoordinates.getY(index))) {
+                        if (hitCount == hits.length) {
+                            hits = Arrays.copyOf(hits, hitCount * 2);
+                        }
+                        hits[hitCount++] = element;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes an element from the index and from its CoordinateArray in constant time.
+     * Other found elements stay valid.
+     *
+     * @param element the element, e.g. from getHit().
+     */
+    public void remove(int element) {
+        // Unlink the element from its bucket, which only holds the few elements of one tile
+        int tile = tiles[element];
+        int first = buckets.get(tile, NONE);
+        if (first == element) {
+            if (next[element] == NONE) {
+                buckets.remove(tile, NONE);
+            } else {
+                buckets.put(tile, next[element]);
+            }
+        } else {
+            int previous = first;
+            while (next[previous] != element) {
+                previous = next[previous];
+            }
+            next[previous] = next[element];
+        }
+
+        // The last element of the CoordinateArray moves into the free place
+        int kind = kinds[element];
+        int index = indexes[element];
+        CoordinateArray kindCoordinates = coordinates[kind];
+        int last = kindCoordinates.size() - 1;
+        kindCoordinates.removeIndexUnordered(index);
+        int moved = elementAt[kind][last];
+        elementAt[kind][index] = moved;
+        indexes[moved] = index;
+    }
+
+    /**
+     * Finds the element lying at an index of the CoordinateArray of a kind.
+     *
+     * @param kind  one of the kinds, e.g. KEY.
+     * @param index index in the CoordinateArray of the kind.
+     * @return the element, as reported by getHit().
+     */
+    public int getElement(int kind, int index) {
+        return elementAt[kind][index];
+    }
+
+    // getters for the result of the last query
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    public int getHit(int hit) {
+        return hits[hit];
+    }
+
+    public int getHitKind(int hit) {
+        return kinds[hits[hit]];
+    }
+}
@@ -1,56 +1,53 @@
 package de.tum.cit.ase.maze;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Key class is responsible for holding all the keys in the game and their texture.
  * It implements Add and DisposeTextureRegion enabling addition of keys to the
  * existing list and disposal of key texture when required.
  */
 public class Key implements Add<Number>, DisposeTextureRegion {
-    private final TextureRegion textureRegion;
+    private TextureRegion textureRegion; // loaded on first use, so keys can also be created without graphics
 
-    private final List<Coordinate<Number>> keys; // list of all keys in the game
+    private final CoordinateArray keys; // list of all keys in the game
 
     /**
-     * Constructor for Key. Initializes the list keys an assigns the correct textureRegion.
+     * Constructor for Key. Initializes the list keys. The textureRegion is loaded when it is first requested.
      */
     public Key() {
-        keys = new ArrayList<>();
-        textureRegion = new TextureRegion(new Texture(Gdx.files.internal("key.png")), 0, 0, 16, 16);
+        keys = new CoordinateArray();
     }
 
 
     /**
-     * Creates and adds a new Coordinate type object to the keys list.
-     * @param x Sets the x-coordinate of the newly created Coordinate type object.
-     * @param y Sets the y-coordinate of the newly created Coordinate type object.
+     * Adds the coordinates of a new element to keys.
+     * @param x x-coordinate of the new element.
+     * @param y y-coordinate of the new element.
      */
-    public void add(Number x, Number y) {
-        keys.add(new Coordinate<>(x, y));
+    public void add(float x, float y) {
+        keys.add(x, y);
     }
 
 
     /**
-     * Disposes the key texture.
+     * Releases the key texture. The texture is shared and disposed by TextureRegistry.
      */
     @Override
     public void disposeTx() {
-        textureRegion.getTexture().dispose();
+        textureRegion = null;
     }
 
 
     // getters for the attributes
     public TextureRegion getTextureRegion() {
+        if (textureRegion == null) {
+            textureRegion = TextureRegistry.getRegion("key", 0, 0, 16, 16);
+        }
         return textureRegion;
     }
 
-    public List<Coordinate<Number>> getKeys() {
+    public CoordinateArray getKeys() {
         return keys;
     }
 
@@ -0,0 +1,153 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.utils.IntIntMap;
+
+/**
+ * The LineOfSight class checks whether an enemy can see the character, by walking along
+ * the tiles between the tile of the enemy and the tile of the character (a grid DDA).
+ * The sight is blocked by every wall tile on the way and ends after a maximum distance.
+ * Lines go from tile center to tile center, so the result only depends on the two tiles:
+ * it is cached for every tile within maxDistance an enemy looked from, and the cache is
+ * cleared when the character enters another tile. The cache is created large enough for
+ * all tiles within maxDistance, so after the constructor neither the raycast nor the
+ * cache creates any objects.
+ */
+public class LineOfSight {
+    private static final int VISIBLE = 1;
+    private static final int HIDDEN = 0;
+    private static final int UNKNOWN = -1;
+
+    private final WallManager wallManager;
+    private final int maxDistance; // in tiles, the character is not seen from further away
+    private final IntIntMap visibility; // tile id (tileY * columns + tileX) within maxDistance -> VISIBLE or HIDDEN from the character's tile
+
+    // Tile of the character during the last update
+    private int targetTileX = Integer.MIN_VALUE;
+    private int targetTileY = Integer.MIN_VALUE;
+
+    /**
+     * Constructor for LineOfSight.
+     *
+     * @param wallManager the walls blocking the sight.
+     * @param maxDistance the distance in tiles from which the character can be seen.
+     */
+    public LineOfSight(WallManager wallManager, int maxDistance) {
+        this.wallManager = wallManager;
+        this.maxDistance = maxDistance;
+        // Only tiles within maxDistance of the character are cached, they all lie in this square
+        visibility = new IntIntMap((2 * maxDistance + 1) * (2 * maxDistance + 1));
+    }
+
+    /**
+     * Moves the target of the sight lines to the character at x,y. The cached results
+     * are only cleared if the character entered another tile.
+     *
+     * @param x x-coordinate of the character
+     * @param y y-coordinate of the character
+     */
+    public void update(float x, float y) {
+        int tileX = centerTile(x);
+        int tileY = centerTile(y);
+        if (tileX != targetTileX || tileY != targetTileY) {
+            targetTileX = tileX;
+            targetTileY = tileY;
+            visibility.clear();
+        }
+    }
+
+    /**
+     * Checks whether a moving entity (Enemy) at x,y can see the character, see update().
+     *
+     * @param x x-coordinate of the moving entity
+     * @param y y-coordinate of the moving entity
+     * @return true if no wall lies between the entity and the character and the character is close enough.
+     */
+    public boolean canSeeTarget(float x, float y) {
+        int tileX = centerTile(x);
+        int tileY = centerTile(y);
+        if (!inRange(tileX - targetTileX, tileY - targetTileY)) {
+            return false; // not cached, so the cache never holds more tiles than it was created for
+        }
+        int tile = tileY * wallManager.getColumns() + tileX;
+        int visible = visibility.get(tile, UNKNOWN);
+        if (visible == UNKNOWN) {
+            visible = raycast(tileX, tileY, targetTileX, targetTileY) ? VISIBLE : HIDDEN;
+            visibility.put(tile, visible);
+        }
+        return visible == VISIBLE;
+    }
+
+    /**
+     * Walks from the center of one tile to the center of another, visiting every tile the
+     * line crosses, and stops at the first wall. A line passing exactly through the corner
+     * of two wall tiles is blocked if either of them is a wall, so nobody sees through the
+     * gap between diagonal walls.
+     *
+     * @param fromTileX x-coordinate of the start tile (not the pixel coordinate).
+     * @param fromTileY y-coordinate of the start tile (not the pixel coordinate).
+     * @param toTileX   x-coordinate of the end tile.
+     * @param toTileY   y-coordinate of the end tile.
+     * @return true if the tiles are at most maxDistance apart and no wall lies between them.
+     */
+    public boolean raycast(int fromTileX, int fromTileY, int toTileX, int toTileY) {
+        int distanceX = Math.abs(toTileX - fromTileX);
+        int distanceY = Math.abs(toTileY - fromTileY);
+        if (!inRange(distanceX, distanceY)) {
+            return false;
+        }
+        int stepX = Integer.signum(toTileX - fromTileX);
+        int stepY = Integer.signum(toTileY - fromTileY);
+
+        int tileX = fromTileX;
+        int tileY = fromTileY;
+        int crossedX = 0; // vertical tile borders crossed so far
+        int crossedY = 0; // horizontal tile borders crossed so far
+        while (crossedX < distanceX || crossedY < distanceY) {
+            // The line crosses the next vertical border at (crossedX + 0.5) / distanceX of its length and
+            // the next horizontal border at (crossedY + 0.5) / distanceY, compared without dividing
+            long nextX = (2L * crossedX + 1) * distanceY;
+            long nextY = (2L * crossedY + 1) * distanceX;
+            if (nextX < nextY) {
+                tileX += stepX;
+                crossedX++;
+            } else if (nextY < nextX) {
+                tileY += stepY;
+                crossedY++;
+            } else {
+                // Through a corner: the two tiles next to the corner must be free as well
+                if (wallManager.isWallTile(tileX + stepX, tileY) || wallManager.isWallTile(tileX, tileY + stepY)) {
+                    return false;
+                }
+                tileX += stepX;
+                tileY += stepY;
+                crossedX++;
+                crossedY++;
+            }
+            if (wallManager.isWallTile(tileX, tileY)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether two tiles are at most maxDistance apart.
+     *
+     * @param distanceX distance of the tiles along the x-axis, in tiles.
+     * @param distanceY distance of the tiles along the y-axis, in tiles.
+     * @return true if the tiles are close enough to see each other.
+     */
+    private boolean inRange(int distanceX, int distanceY) {
+        return (long) distanceX * distanceX + (long) distanceY * distanceY <= (long) maxDistance * maxDistance;
+    }
+
+    /**
+     * Returns the tile containing the center of the wall hitbox of a moving entity along one axis.
+     *
+     * @param coordinate x- or y-coordinate of the moving entity.
+     * @return the x- or y-coordinate of the tile.
+     */
+    private static int centerTile(float coordinate) {
+        return Math.floorDiv((int) coordinate + Hitbox.WALL_OFFSET + Hitbox.WALL_SIZE / 2, WallManager.TILE_SIZE);
+    }
+}
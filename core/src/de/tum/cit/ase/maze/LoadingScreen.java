@@ -0,0 +1,142 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * The LoadingScreen class is shown while a chosen maze is loaded. The maze file is parsed
+ * (or a new maze is generated) and its walls are classified on a background thread, while the textures and sounds are
+ * loaded by the AssetCache a little on every frame, so the window keeps responding even
+ * for big mazes. Assets loaded for an earlier game are not loaded again. Once both are
+ * done, the game switches to the GameScreen.
+ */
+public class LoadingScreen implements Screen {
+
+    private static final int UPDATE_BUDGET_MILLIS = 16; // Time the AssetCache may spend loading per frame
+
+    private final MazeRunnerGame game;
+    private final Stage stage; // Stage for the loading UI elements
+    private final ProgressBar progressBar; // Shows the loading progress
+    private final Label progressLabel; // Shows the loading progress in percent
+
+    private final AsyncResult<MazeModel> model; // Model of the chosen maze, created on the background thread
+    private boolean isDisposed;
+
+    /**
+     * Constructor for LoadingScreen. Sets up the UI elements, queues the game assets in the
+     * AssetCache and starts creating the model of the chosen maze in the background.
+     *
+     * @param game       The main game class, used to access global resources and methods.
+     * @param mazeSource creates the cells of the maze on the background thread, e.g. by loading a maze file.
+     */
+    public LoadingScreen(MazeRunnerGame game, AsyncTask<MazeGrid> mazeSource) {
+        this.game = game;
+
+        var camera = new OrthographicCamera();
+        camera.zoom = 1.5f; // Same zoom as the MenuScreen
+
+        Viewport viewport = new ScreenViewport(camera); // Create a viewport with the camera
+        stage = new Stage(viewport, game.getSpriteBatch()); // Create a stage for UI elements
+
+        Table table = new Table(); // Create a table for layout
+        table.setFillParent(true); // Make the table fill the stage
+        stage.addActor(table); // Add the table to the stage
+
+        table.add(new Label("Loading maze...", game.getSkin(), "title")).padBottom(80).row();
+        progressBar = new ProgressBar(0f, 1f, 0.01f, false, game.getSkin());
+        table.add(progressBar).width(600).row();
+        progressLabel = new Label("0%", game.getSkin());
+        table.add(progressLabel).padTop(20).row();
+
+        GameAssets.queue(game.getAssetCache());
+        model = game.getLoadingExecutor().submit(() -> new MazeModel(mazeSource.call()));
+    }
+
+    /**
+     * Called when the LoadingScreen should render itself. Lets the AssetCache load for a
+     * part of the frame, shows the progress and starts the game once everything is loaded.
+     *
+     * @param delta The time in seconds since the last render.
+     */
+    @Override
+    public void render(float delta) {
+        AssetCache assetCache = game.getAssetCache();
+        boolean assetsLoaded = assetCache.update(UPDATE_BUDGET_MILLIS);
+
+        // Assets and model count half each, the model is either done or not
+        float progress = (assetCache.getProgress() + (model.isDone() ? 1f : 0f)) / 2f;
+        progressBar.setValue(progress);
+        progressLabel.setText((int) (progress * 100) + "%");
+
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT); // Clear the screen
+        stage.act(Math.min(delta, 1 / 30f)); // Update the stage
+        stage.draw(); // Draw the stage
+
+        if (assetsLoaded && model.isDone()) {
+            MazeModel loadedModel;
+            try {
+                loadedModel = model.get();
+            } catch (GdxRuntimeException e) {
+                // e.g. the file could not be read or has no entry point
+                System.err.println("Error loading maze: " + e.getMessage());
+                game.goToMenu(false);
+                dispose();
+                return;
+            }
+            game.startGame(loadedModel);
+            dispose();
+        }
+    }
+
+    /**
+     * Called when LoadingScreen should release all resources. Disposes the stage,
+     * the loaded model and assets are owned by the game.
+     */
+    @Override
+    public void dispose() {
+        if (!isDisposed) {
+            stage.dispose();
+            isDisposed = true;
+        }
+    }
+
+    /**
+     * Called when LoadingScreen is resized. Updates the stage viewport on resize.
+     *
+     * @param width  the new width of the screen after resize.
+     * @param height the new height of the screen after resize.
+     */
+    @Override
+    public void resize(int width, int height) {
+        stage.getViewport().update(width, height, true); // Update the stage viewport on resize
+    }
+
+
+    // The following methods are part of the Screen interface but are not used in this screen.
+    @Override
+    public void show() {
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+    }
+
+    @Override
+    public void hide() {
+    }
+}
@@ -0,0 +1,61 @@
+package de.tum.cit.ase.maze;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * MazeConverter is a command line tool which converts .properties maze files into
+ * the binary .maze format read by the MazeLoader. Each converted file is written
+ * next to the original file.
+ * Usage: MazeConverter &lt;file or directory&gt;...
+ */
+public final class MazeConverter {
+
+    private MazeConverter() {
+    }
+
+    /**
+     * Converts all given .properties files and all .properties files inside the given directories.
+     *
+     * @param args paths of .properties files and/or directories containing them.
+     * @throws IOException If any file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: MazeConverter <file or directory>...");
+            return;
+        }
+
+        for (String arg : args) {
+            File file = new File(arg);
+            File[] files = file.isDirectory()
+                    ? file.listFiles((dir, name) -> name.endsWith(MazeLoader.PROPERTIES_EXTENSION))
+                    : new File[]{file};
+            if (files == null) {
+                throw new IOException("Cannot list directory: " + arg);
+            }
+            for (File propertiesFile : files) {
+                convert(propertiesFile.getPath());
+            }
+        }
+    }
+
+    /**
+     * Converts a single .properties maze file into a .maze file next to it.
+     *
+     * @param propertiesPath path of the .properties file.
+     * @return path of the written .maze file.
+     * @throws IOException If the file cannot be read or written.
+     */
+    public static String convert(String propertiesPath) throws IOException {
+        String baseName = propertiesPath.endsWith(MazeLoader.PROPERTIES_EXTENSION)
+                ? propertiesPath.substring(0, propertiesPath.length() - MazeLoader.PROPERTIES_EXTENSION.length())
+                : propertiesPath;
+        String binaryPath = baseName + MazeLoader.BINARY_EXTENSION;
+
+        MazeGrid grid = MazeLoader.loadProperties(propertiesPath);
+        MazeLoader.writeBinary(grid, binaryPath);
+        System.out.println(propertiesPath + " -> " + binaryPath + " (" + grid.getWidth() + "x" + grid.getHeight() + ")");
+        return binaryPath;
+    }
+}
@@ -0,0 +1,522 @@
+package de.tum.cit.ase.maze;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * MazeGenerator creates random square mazes of arbitrary size in the cell vocabulary of the
+ * maze files (0 wall, 1 entry point, 2 exit, 3 trap, 4 enemy, 5 key). The same seed always
+ * creates the same maze. Walls are kept in a bitset (one bit per tile) and the mazes are
+ * emitted row by row, so even 10000x10000 mazes can be written to a .properties or .maze
+ * file without holding the grid as Strings or bytes.
+ * It is also a command line tool, usage:
+ * MazeGenerator &lt;output file (.properties or .maze)&gt; [--size=N] [--algorithm=backtracker|kruskal|cellular]
+ * [--enemies=N] [--keys=N] [--traps=DENSITY] [--seed=N]
+ */
+public class MazeGenerator {
+
+    /**
+     * Algorithms used to carve the paths of the maze.
+     */
+    public enum Algorithm {
+        BACKTRACKER, // depth-first search, long winding corridors
+        KRUSKAL, // randomized Kruskal, many short dead ends
+        CELLULAR // backtracker maze opened up by cellular automaton caves
+    }
+
+    public static final int MIN_SIZE = 7;
+    public static final int MAX_SIZE = 40000; // size * size tiles still fit into an int index
+
+    // Cell values of the maze files
+    private static final byte WALL = 0;
+    private static final byte ENTRY = 1;
+    private static final byte EXIT = 2;
+    private static final byte TRAP = 3;
+    private static final byte ENEMY = 4;
+    private static final byte KEY = 5;
+
+    private static final int[] DX = {-1, 1, 0, 0}; // 0 left, 1 right, 2 up, 3 down
+    private static final int[] DY = {0, 0, 1, -1};
+
+    private final int size; // number of tiles along each axis
+    private final Algorithm algorithm;
+    private final long seed;
+    private int enemyCount;
+    private int keyCount = 1;
+    private double trapDensity;
+
+    private final int cellsPerRow; // paths are carved between the cells at odd tile coordinates
+    private long[] walls; // packed bitset, one bit per tile (index = y * size + x)
+
+    /**
+     * Constructor for MazeGenerator. By default, the maze has one key, no enemies and no traps.
+     *
+     * @param size      number of tiles along each axis, between MIN_SIZE and MAX_SIZE.
+     * @param algorithm algorithm used to carve the paths.
+     * @param seed      seed of the random generator.
+     */
+    public MazeGenerator(int size, Algorithm algorithm, long seed) {
+        if (size < MIN_SIZE || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Maze size must be between " + MIN_SIZE + " and " + MAX_SIZE + ": " + size);
+        }
+        this.size = size;
+        this.algorithm = algorithm;
+        this.seed = seed;
+        cellsPerRow = (size - 1) / 2;
+    }
+
+    // setters for the maze contents
+    public void setEnemyCount(int enemyCount) {
+        if (enemyCount < 0) {
+            throw new IllegalArgumentException("Invalid enemy count: " + enemyCount);
+        }
+        this.enemyCount = enemyCount;
+    }
+
+    public void setKeyCount(int keyCount) {
+        if (keyCount < 0) {
+            throw new IllegalArgumentException("Invalid key count: " + keyCount);
+        }
+        this.keyCount = keyCount;
+    }
+
+    public void setTrapDensity(double trapDensity) {
+        if (trapDensity < 0 || trapDensity > 1) {
+            throw new IllegalArgumentException("Trap density must be between 0 and 1: " + trapDensity);
+        }
+        this.trapDensity = trapDensity;
+    }
+
+    /**
+     * Generates the maze into a MazeGrid, e.g. to play it without writing a file.
+     *
+     * @return the cells of the maze.
+     */
+    public MazeGrid generate() {
+        MazeGrid grid = new MazeGrid(size, size);
+        byte[] cells = grid.getCells();
+        try {
+            emit((y, row) -> System.arraycopy(row, 0, cells, y * size, size));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // cannot happen, the rows are only copied
+        }
+        return grid;
+    }
+
+    /**
+     * Generates the maze and streams it into a file, choosing the format by the file extension.
+     *
+     * @param path path of the maze file (.properties or .maze).
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(String path) throws IOException {
+        if (path.endsWith(MazeLoader.BINARY_EXTENSION)) {
+            try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path), 1 << 16))) {
+                MazeLoader.writeBinaryHeader(outputStream, size, size);
+                emit((y, row) -> outputStream.write(row));
+            }
+        } else if (path.endsWith(MazeLoader.PROPERTIES_EXTENSION)) {
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(path), 1 << 16)) {
+                // Roads are left out, like in the hand-made maze files
+                emit((y, row) -> {
+                    for (int x = 0; x < size; x++) {
+                        if (row[x] != MazeGrid.EMPTY) {
+                            writer.write(x + "," + y + "=" + row[x]);
+                            writer.newLine();
+                        }
+                    }
+                });
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown maze file extension: " + path);
+        }
+    }
+
+    /**
+     * Receives the generated maze row by row.
+     */
+    private interface RowWriter {
+        /**
+         * @param y   y-coordinate of the row.
+         * @param row the cell values of the row, MazeGrid.EMPTY for roads. Reused for the next row.
+         * @throws IOException If the row cannot be written.
+         */
+        void write(int y, byte[] row) throws IOException;
+    }
+
+    /**
+     * Carves the maze, places the game elements and hands the maze to the writer row by row.
+     *
+     * @param writer receives the rows, from y = 0 upwards.
+     */
+    private void emit(RowWriter writer) throws IOException {
+        Random random = new Random(seed);
+        walls = new long[(size * size + 63) >>> 6];
+        Arrays.fill(walls, -1L);
+
+        switch (algorithm) {
+            case BACKTRACKER -> carveBacktracker(random);
+            case KRUSKAL -> carveKruskal(random);
+            case CELLULAR -> {
+                carveBacktracker(random);
+                openCaves(random);
+            }
+        }
+
+        long[] elements = placeElements(random);
+        Random trapRandom = new Random(seed ^ 0x5DEECE66DL); // separate, so traps do not change the other elements
+
+        byte[] row = new byte[size];
+        int nextElement = 0;
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int index = y * size + x;
+                byte value;
+                if (nextElement < elements.length && (int) (elements[nextElement] >>> 8) == index) {
+                    value = (byte) elements[nextElement++];
+                } else if (isWall(index)) {
+                    value = WALL;
+                } else if (trapDensity > 0 && trapRandom.nextDouble() < trapDensity) {
+                    value = TRAP;
+                } else {
+                    value = MazeGrid.EMPTY;
+                }
+                row[x] = value;
+            }
+            writer.write(y, row);
+        }
+        walls = null;
+    }
+
+    /**
+     * Carves a perfect maze with an iterative depth-first search (recursive backtracker).
+     * Instead of a stack, every cell remembers the direction back to the cell it was reached
+     * from, which needs one byte per cell.
+     *
+     * @param random the random generator.
+     */
+    private void carveBacktracker(Random random) {
+        int cellCount = cellsPerRow * cellsPerRow;
+        byte[] cameFrom = new byte[cellCount]; // 0 not visited, 1-4 direction back + 1, 5 start cell
+        int[] options = new int[4];
+
+        int current = random.nextInt(cellCount);
+        cameFrom[current] = 5;
+        carve(cellTileX(current), cellTileY(current));
+
+        while (true) {
+            int cellX = current % cellsPerRow;
+            int cellY = current / cellsPerRow;
+            int optionCount = 0;
+            for (int direction = 0; direction < 4; direction++) {
+                int nextX = cellX + DX[direction];
+                int nextY = cellY + DY[direction];
+                if (nextX >= 0 && nextX < cellsPerRow && nextY >= 0 && nextY < cellsPerRow
+                        && cameFrom[nextY * cellsPerRow + nextX] == 0) {
+                    options[optionCount++] = direction;
+                }
+            }
+
+            if (optionCount > 0) {
+                int direction = options[random.nextInt(optionCount)];
+                int next = (cellY + DY[direction]) * cellsPerRow + cellX + DX[direction];
+                cameFrom[next] = (byte) ((direction ^ 1) + 1); // 0<->1 and 2<->3 are opposite directions
+                carve(cellTileX(current) + DX[direction], cellTileY(current) + DY[direction]);
+                carve(cellTileX(next), cellTileY(next));
+                current = next;
+            } else if (cameFrom[current] == 5) {
+                return; // back at the start, every cell is visited
+            } else {
+                int back = cameFrom[current] - 1;
+                current = (cellY + DY[back]) * cellsPerRow + cellX + DX[back];
+            }
+        }
+    }
+
+    /**
+     * Carves a perfect maze with the randomized Kruskal algorithm. The walls between the cells
+     * are visited in a random order, given by a bijective hash of their index instead of a
+     * shuffled list, and removed if the cells on both sides are not connected yet.
+     *
+     * @param random the random generator.
+     */
+    private void carveKruskal(Random random) {
+        int cellCount = cellsPerRow * cellsPerRow;
+        int[] parent = new int[cellCount]; // union-find forest of the connected cells
+        byte[] rank = new byte[cellCount]; // upper bound of the tree height, keeps the trees flat
+        for (int cell = 0; cell < cellCount; cell++) {
+            parent[cell] = cell;
+            carve(cellTileX(cell), cellTileY(cell));
+        }
+
+        long horizontalEdges = (long) (cellsPerRow - 1) * cellsPerRow; // walls between left and right neighbours
+        long edgeCount = 2 * horizontalEdges;
+        int bits = Math.max(1, 64 - Long.numberOfLeadingZeros(edgeCount - 1));
+        long mask = (1L << bits) - 1;
+        int shift = Math.max(1, bits / 2);
+        long multiplier1 = random.nextLong() | 1; // odd multipliers are bijective modulo 2^bits
+        long multiplier2 = random.nextLong() | 1;
+        long offset = random.nextLong();
+
+        int remainingUnions = cellCount - 1;
+        for (long i = 0; i <= mask && remainingUnions > 0; i++) {
+            long edge = (i * multiplier1 + offset) & mask;
+            edge ^= edge >>> shift;
+            edge = (edge * multiplier2) & mask;
+            edge ^= edge >>> shift;
+            if (edge >= edgeCount) {
+                continue;
+            }
+
+            int cell;
+            int direction;
+            if (edge < horizontalEdges) {
+                cell = (int) (edge / (cellsPerRow - 1)) * cellsPerRow + (int) (edge % (cellsPerRow - 1));
+                direction = 1; // right
+            } else {
+                cell = (int) (edge - horizontalEdges);
+                direction = 2; // up
+            }
+            int neighbour = cell + (direction == 1 ? 1 : cellsPerRow);
+
+            int root = find(parent, cell);
+            int neighbourRoot = find(parent, neighbour);
+            if (root != neighbourRoot) {
+                if (rank[root] < rank[neighbourRoot]) {
+                    parent[root] = neighbourRoot;
+                } else {
+                    parent[neighbourRoot] = root;
+                    if (rank[root] == rank[neighbourRoot]) {
+                        rank[root]++;
+                    }
+                }
+                carve(cellTileX(cell) + DX[direction], cellTileY(cell) + DY[direction]);
+                remainingUnions--;
+            }
+        }
+    }
+
+    /**
+     * Finds the root of a cell in the union-find forest, halving the path on the way.
+     *
+     * @param parent the union-find forest.
+     * @param cell   the cell.
+     * @return the root representing all cells connected to the cell.
+     */
+    private static int find(int[] parent, int cell) {
+        while (parent[cell] != cell) {
+            parent[cell] = parent[parent[cell]];
+            cell = parent[cell];
+        }
+        return cell;
+    }
+
+    /**
+     * Opens up caves in the carved maze. Random noise is smoothed by a cellular automaton
+     * (a tile becomes a wall if at least 5 of the 9 tiles around it are walls) and every
+     * cave tile is removed from the walls. Removing walls keeps all cells connected.
+     *
+     * @param random the random generator.
+     */
+    private void openCaves(Random random) {
+        long[] caves = new long[walls.length];
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (isBorder(x, y) || random.nextFloat() < 0.45f) {
+                    setBit(caves, y * size + x);
+                }
+            }
+        }
+
+        long[] next = new long[walls.length];
+        for (int iteration = 0; iteration < 4; iteration++) {
+            Arrays.fill(next, 0L);
+            for (int y = 0; y < size; y++) {
+                for (int x = 0; x < size; x++) {
+                    if (isBorder(x, y) || countWalls(caves, x, y) >= 5) {
+                        setBit(next, y * size + x);
+                    }
+                }
+            }
+            long[] swap = caves;
+            caves = next;
+            next = swap;
+        }
+
+        for (int i = 0; i < walls.length; i++) {
+            walls[i] &= caves[i];
+        }
+    }
+
+    /**
+     * Counts the walls in the 3x3 tiles around the given tile.
+     *
+     * @param bits the bitset of the walls.
+     * @param x    x-coordinate of the tile.
+     * @param y    y-coordinate of the tile.
+     * @return the number of walls, including the tile itself.
+     */
+    private int countWalls(long[] bits, int x, int y) {
+        int count = 0;
+        for (int neighbourY = y - 1; neighbourY <= y + 1; neighbourY++) {
+            for (int neighbourX = x - 1; neighbourX <= x + 1; neighbourX++) {
+                int index = neighbourY * size + neighbourX;
+                if ((bits[index >>> 6] & (1L << index)) != 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Chooses distinct random cells for the entry point, the keys and the enemies and puts the
+     * exit into the bottom or left border next to a random cell. Cells are always connected to
+     * each other, so every game element can be reached.
+     *
+     * @param random the random generator.
+     * @return the game elements, packed as (tile index &lt;&lt; 8 | value) and sorted by tile index.
+     */
+    private long[] placeElements(Random random) {
+        int cellCount = cellsPerRow * cellsPerRow;
+        if (1L + keyCount + enemyCount > cellCount) {
+            throw new IllegalArgumentException("Too many keys and enemies for a maze of size " + size);
+        }
+
+        long[] elements = new long[2 + keyCount + enemyCount];
+        int count = 0;
+        Set<Integer> usedCells = new HashSet<>();
+        elements[count++] = packElement(randomCell(random, usedCells), ENTRY);
+        for (int i = 0; i < keyCount; i++) {
+            elements[count++] = packElement(randomCell(random, usedCells), KEY);
+        }
+        for (int i = 0; i < enemyCount; i++) {
+            elements[count++] = packElement(randomCell(random, usedCells), ENEMY);
+        }
+
+        int borderCell = random.nextInt(cellsPerRow);
+        int exitIndex = random.nextBoolean()
+                ? borderCell * 2 + 1 // bottom border, x = cell tile, y = 0
+                : (borderCell * 2 + 1) * size; // left border, x = 0, y = cell tile
+        carve(exitIndex % size, exitIndex / size);
+        elements[count] = ((long) exitIndex << 8) | EXIT;
+
+        Arrays.sort(elements);
+        return elements;
+    }
+
+    /**
+     * Chooses a random cell which is not used yet.
+     *
+     * @param random    the random generator.
+     * @param usedCells the cells already used, the chosen cell is added.
+     * @return the tile index of the chosen cell.
+     */
+    private int randomCell(Random random, Set<Integer> usedCells) {
+        int cell;
+        do {
+            cell = random.nextInt(cellsPerRow * cellsPerRow);
+        } while (!usedCells.add(cell));
+        return cellTileY(cell) * size + cellTileX(cell);
+    }
+
+    private static long packElement(int tileIndex, byte value) {
+        return ((long) tileIndex << 8) | value;
+    }
+
+    private int cellTileX(int cell) {
+        return (cell % cellsPerRow) * 2 + 1;
+    }
+
+    private int cellTileY(int cell) {
+        return (cell / cellsPerRow) * 2 + 1;
+    }
+
+    private boolean isBorder(int x, int y) {
+        return x == 0 || y == 0 || x == size - 1 || y == size - 1;
+    }
+
+    private void carve(int x, int y) {
+        int index = y * size + x;
+        walls[index >>> 6] &= ~(1L << index);
+    }
+
+    private boolean isWall(int index) {
+        return (walls[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void setBit(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+
+    /**
+     * Generates a maze file from the command line.
+     *
+     * @param args output file followed by the options, see the class description.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: MazeGenerator <output file (.properties or .maze)> [--size=N]"
+                    + " [--algorithm=backtracker|kruskal|cellular] [--enemies=N] [--keys=N] [--traps=DENSITY] [--seed=N]");
+            return;
+        }
+
+        int size = 101;
+        Algorithm algorithm = Algorithm.BACKTRACKER;
+        long seed = System.nanoTime();
+        int enemies = -1;
+        int keys = 1;
+        double traps = 0;
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--size=")) {
+                size = Integer.parseInt(value);
+            } else if (arg.startsWith("--algorithm=")) {
+                algorithm = Algorithm.valueOf(value.toUpperCase(Locale.ROOT));
+            } else if (arg.startsWith("--enemies=")) {
+                enemies = Integer.parseInt(value);
+            } else if (arg.startsWith("--keys=")) {
+                keys = Integer.parseInt(value);
+            } else if (arg.startsWith("--traps=")) {
+                traps = Double.parseDouble(value);
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        MazeGenerator generator = new MazeGenerator(size, algorithm, seed);
+        generator.setEnemyCount(enemies >= 0 ? enemies : defaultEnemyCount(size));
+        generator.setKeyCount(keys);
+        generator.setTrapDensity(traps);
+
+        long start = System.nanoTime();
+        generator.write(args[0]);
+        System.out.println(args[0] + " (" + size + "x" + size + ", " + algorithm + ", seed " + seed + ") written in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Returns the number of enemies used if none is given, about one enemy per 100 tiles.
+     *
+     * @param size number of tiles along each axis.
+     * @return the default number of enemies.
+     */
+    public static int defaultEnemyCount(int size) {
+        return (int) Math.min((long) size * size / 100, (long) ((size - 1) / 2) * ((size - 1) / 2) / 4);
+    }
+}
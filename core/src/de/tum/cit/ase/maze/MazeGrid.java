@@ -0,0 +1,99 @@
+package de.tum.cit.ase.maze;
+
+import java.util.Arrays;
+
+/**
+ * MazeGrid class holds the raw cell values of a maze file in a flat byte array,
+ * one byte per cell. It is filled by the MazeLoader from either a .properties or
+ * a binary .maze file and replaces the string-keyed lookups into the properties
+ * file while the game elements are created.
+ */
+public class MazeGrid {
+    public static final byte EMPTY = -1; // cell not present in the maze file, treated as road
+    public static final byte UNKNOWN = -2; // cell present in the maze file, but without a numeric value
+
+    private final int width; // number of cells along the x-axis
+    private final int height; // number of cells along the y-axis
+    private final byte[] cells; // cell values, index = y * width + x
+
+    /**
+     * Constructor for MazeGrid. Creates a grid with all cells set to EMPTY.
+     *
+     * @param width  number of cells along the x-axis.
+     * @param height number of cells along the y-axis.
+     */
+    public MazeGrid(int width, int height) {
+        this(width, height, new byte[width * height]);
+        Arrays.fill(cells, EMPTY);
+    }
+
+    /**
+     * Constructor for MazeGrid using already decoded cell values.
+     *
+     * @param width  number of cells along the x-axis.
+     * @param height number of cells along the y-axis.
+     * @param cells  cell values, index = y * width + x.
+     */
+    public MazeGrid(int width, int height, byte[] cells) {
+        if (width < 0 || height < 0 || cells.length != width * height) {
+            throw new IllegalArgumentException("Invalid maze size: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.cells = cells;
+    }
+
+    /**
+     * Returns the value of the cell at the given coordinates.
+     *
+     * @param x x-coordinate of the cell (first number of the keypair in the maze file).
+     * @param y y-coordinate of the cell (second number of the keypair in the maze file).
+     * @return the cell value, EMPTY if the cell is not part of the maze file or outside the grid.
+     */
+    public byte get(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return EMPTY;
+        }
+        return cells[y * width + x];
+    }
+
+    /**
+     * Sets the value of the cell at the given coordinates.
+     *
+     * @param x     x-coordinate of the cell.
+     * @param y     y-coordinate of the cell.
+     * @param value the new cell value.
+     */
+    public void set(int x, int y, byte value) {
+        cells[y * width + x] = value;
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a hash of the size and all cell values, e.g. to check that a
+     * replay is played on the maze it was recorded on.
+     *
+     * @return the hash of the grid.
+     */
+    public long contentHash() {
+        long hash = 0xcbf29ce484222325L;
+        hash = (hash ^ width) * 0x100000001b3L;
+        hash = (hash ^ height) * 0x100000001b3L;
+        for (byte cell : cells) {
+            hash = (hash ^ (cell & 0xFF)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // getters for the attributes
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public byte[] getCells() {
+        return cells;
+    }
+}
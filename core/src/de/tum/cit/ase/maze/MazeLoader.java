@@ -0,0 +1,187 @@
+package de.tum.cit.ase.maze;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * MazeLoader class reads maze files into a MazeGrid. Two formats are supported:
+ * the original .properties files ("x,y=value" per cell) and the compact binary
+ * .maze format. The binary format consists of a header (magic number, version,
+ * width and height as 4 byte integers) followed by one byte per cell, row by row.
+ * Binary files are read through a memory-mapped FileChannel, so even big levels
+ * are loaded without creating any Strings.
+ */
+public final class MazeLoader {
+    public static final String PROPERTIES_EXTENSION = ".properties";
+    public static final String BINARY_EXTENSION = ".maze";
+
+    private static final int MAGIC = 0x4D415A45; // "MAZE"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    private MazeLoader() {
+    }
+
+    /**
+     * Loads a maze file, choosing the format by the file extension.
+     *
+     * @param path path of the maze file (.properties or .maze).
+     * @return the cells of the maze.
+     * @throws IOException If the file cannot be read or is not a valid maze file.
+     */
+    public static MazeGrid load(String path) throws IOException {
+        if (path.endsWith(BINARY_EXTENSION)) {
+            return loadBinary(path);
+        }
+        return loadProperties(path);
+    }
+
+    /**
+     * Checks whether the given file name has one of the supported maze file extensions.
+     *
+     * @param name the file name.
+     * @return true if the file is a .properties or a .maze file.
+     */
+    public static boolean isMazeFile(String name) {
+        return name.endsWith(PROPERTIES_EXTENSION) || name.endsWith(BINARY_EXTENSION);
+    }
+
+    /**
+     * Loads a .properties maze file. The grid is as wide as the largest x-coordinate
+     * and as high as the largest y-coordinate found in the file.
+     *
+     * @param path path of the .properties file.
+     * @return the cells of the maze.
+     * @throws IOException If the file cannot be read or contains an invalid keypair.
+     */
+    public static MazeGrid loadProperties(String path) throws IOException {
+        Properties map = new Properties();
+        try (InputStream inputStream = new FileInputStream(path)) {
+            map.load(inputStream);
+        }
+
+        // First pass to find out the size of the maze, second pass to fill the cells.
+        int maxX = -1;
+        int maxY = -1;
+        for (Object mapKey : map.keySet()) {
+            int[] coordinates = parseKey((String) mapKey);
+            maxX = Math.max(maxX, coordinates[0]);
+            maxY = Math.max(maxY, coordinates[1]);
+        }
+
+        MazeGrid grid = new MazeGrid(maxX + 1, maxY + 1);
+        for (Map.Entry<Object, Object> entry : map.entrySet()) {
+            int[] coordinates = parseKey((String) entry.getKey());
+            if (coordinates[0] >= 0 && coordinates[1] >= 0) {
+                grid.set(coordinates[0], coordinates[1], parseValue(((String) entry.getValue()).trim()));
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Loads a binary .maze file through a memory-mapped FileChannel.
+     *
+     * @param path path of the .maze file.
+     * @return the cells of the maze.
+     * @throws IOException If the file cannot be read or is not a valid binary maze file.
+     */
+    public static MazeGrid loadBinary(String path) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a binary maze file: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a binary maze file: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported maze file version " + version + ": " + path);
+            }
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            if (width < 0 || height < 0 || (long) width * height != channel.size() - HEADER_SIZE) {
+                throw new IOException("Corrupt maze file (size does not match " + width + "x" + height + "): " + path);
+            }
+
+            byte[] cells = new byte[width * height];
+            buffer.get(cells);
+            return new MazeGrid(width, height, cells);
+        }
+    }
+
+    /**
+     * Writes the given grid as a binary .maze file.
+     *
+     * @param grid the cells of the maze.
+     * @param path path of the .maze file to be written.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void writeBinary(MazeGrid grid, String path) throws IOException {
+        try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)))) {
+            writeBinaryHeader(outputStream, grid.getWidth(), grid.getHeight());
+            outputStream.write(grid.getCells());
+        }
+    }
+
+    /**
+     * Writes the header of a binary .maze file. It has to be followed by width * height
+     * cell values, row by row starting at y = 0.
+     *
+     * @param outputStream stream of the .maze file.
+     * @param width        number of cells along the x-axis.
+     * @param height       number of cells along the y-axis.
+     * @throws IOException If the header cannot be written.
+     */
+    static void writeBinaryHeader(DataOutputStream outputStream, int width, int height) throws IOException {
+        outputStream.writeInt(MAGIC);
+        outputStream.writeInt(VERSION);
+        outputStream.writeInt(width);
+        outputStream.writeInt(height);
+    }
+
+    /**
+     * Splits a "x,y" keypair of a .properties maze file.
+     *
+     * @param mapKey the keypair.
+     * @return array containing x at index 0 and y at index 1.
+     * @throws IOException If the keypair is not of the form "x,y".
+     */
+    private static int[] parseKey(String mapKey) throws IOException {
+        int comma = mapKey.indexOf(',');
+        if (comma < 0) {
+            throw new IOException("Invalid keypair in maze file: " + mapKey);
+        }
+        try {
+            return new int[]{Integer.parseInt(mapKey.substring(0, comma).trim()), Integer.parseInt(mapKey.substring(comma + 1).trim())};
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid keypair in maze file: " + mapKey, e);
+        }
+    }
+
+    /**
+     * Converts the value of a .properties maze file entry to a cell value.
+     *
+     * @param value the value of the entry.
+     * @return the cell value, UNKNOWN if the value is not a small non-negative number.
+     */
+    private static byte parseValue(String value) {
+        try {
+            int cellValue = Integer.parseInt(value);
+            return cellValue >= 0 && cellValue <= Byte.MAX_VALUE ? (byte) cellValue : MazeGrid.UNKNOWN;
+        } catch (NumberFormatException e) {
+            return MazeGrid.UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,847 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.ai.sched.LoadBalancingScheduler;
+import com.badlogic.gdx.ai.sched.Schedulable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The MazeModel class holds the complete game state of a maze: the game elements created
+ * from the maze file, the character, the enemies and the collectibles, together with the
+ * rules for winning and losing. It advances the game with step() and has no dependency on
+ * libGDX graphics, audio or input, so it can be simulated without a GL context.
+ * GameScreen only reads the model to draw it.
+ */
+public class MazeModel {
+
+    // Different Game Elements
+    private final WallManager wallManager; // Responsible for all 3 kinds of maze walls
+    private final Road road; // Texture of the walkable paths, the TileIndex knows where they are
+    private Character character; // The main character in the game
+    private EntryPoint entryPoint; // Initial spawn location of the character
+    private final Exit exit; // Responsible for all exists out of the maze
+    private final Trap trap; // Responsible for all stationary traps/obstacles
+    private final Key key; //Responsible for all the keys in the game
+    private final List<Enemy> enemies; // Moving Enemies
+
+    private final long mapHash; // MazeGrid.contentHash() of the maze file, the grid itself is not kept
+    private final TileIndex tileIndex; // static game element (road, exit, wall) of every tile, used for rendering
+
+    // Extra Game Elements/collectibles (Bonus) in the game
+    private final CoordinateArray speedUpCoordinates; // All character speedUp collectibles
+    private final CoordinateArray enemySpeedUpCoordinates; // All enemy speedUp collectibles
+    private final CoordinateArray heartCoordinates; // All character lives increase collectibles
+    private final InteractionIndex interactions; // Traps, keys, exits and collectibles by tile, for the collision checks
+
+    // The collectibles are placed on random roads, chosen while the maze is read (reservoir sampling),
+    // so the coordinates of all roads are never stored
+    private static final int COLLECTIBLE_ROADS = 12; // roads needed for the collectibles of a big maze
+    private final CoordinateArray roadSample = new CoordinateArray(COLLECTIBLE_ROADS); // uniformly chosen roads
+    private int roadCount; // number of roads in the maze
+
+    //Maximum value of the x-coordinate/row number in the maze file
+    private final int mapsize;
+
+    private final int totalKeys; //Total number of available keys in the game
+
+    private float sinusInput = 0f; // Increases with each step, drives enemy movement and animations
+
+    // Every 8 seconds the enemies switch between wandering and hunting the character.
+    private float countDownEnemy = 16;
+    private boolean enemyIntelligent; // Whether enemy has intelligent movement
+    private final FlowField flowField; // Directions towards the character, followed by the enemies in the intelligent phase
+    private final LineOfSight lineOfSight; // Whether the enemies can see the character, they only start chasing it then
+    private final SimulationLod simulationLod; // Chooses the enemies moving in a step by their distance to the character
+    private final LoadBalancingScheduler aiScheduler; // Lets every enemy think once every few steps, see EnemyBrain
+    private boolean flowFieldPathing = true; // false: enemies only head towards the character along the larger axis
+    private final long seed; // Seed of the random generator, replays use it to repeat the game
+    private final Random random; // The only random generator of the game, so the game can be repeated from the seed
+    private final float enemyPower; // Share of the time the enemies move, see Enemy
+    private float enemySpeed = 180f; // Base speed of the enemies, restored after an enemy speed up ran out
+    private boolean enemiesSpedUp; // Whether the speed of the enemies has to be restored once the enemy speed up ran out
+
+    private boolean isGameLost;
+    private boolean isGameWon;
+
+    private GameEventListener listener; // Notified about game events, e.g. to play sounds
+    private FrameProfiler profiler; // Measures the enemy AI and character movement, if set
+
+    // Moving enemies in parallel only pays off for many enemies, fewer are moved on the calling thread
+    private static final int PARALLEL_ENEMIES = 512;
+    private static final int ENEMY_BATCH = 128; // Number of enemies moved by one task of the pool
+    private ForkJoinPool enemyPool; // Moves the enemies in parallel if set
+
+    // Enemy AI time slicing: every enemy thinks once per think interval, at most THINKS_PER_STEP enemies in a step
+    private static final long AI_BUDGET_MICROS = 250; // time of a step shared by the thinking enemies
+    private static final int THINKS_PER_STEP = 64;
+    private static final int MIN_THINK_INTERVAL = 30; // in steps, a quarter of a second at the default tick rate
+    static final int SIGHT_RANGE = 10; // in tiles, enemies do not see the character from further away
+
+    /**
+     * Constructor for MazeModel with a random seed.
+     *
+     * @param map cells of the maze file.
+     */
+    public MazeModel(MazeGrid map) {
+        this(map, new Random().nextLong());
+    }
+
+    /**
+     * Constructor for MazeModel. Creates the basic game elements for every cell of the
+     * maze and places the extra collectibles on random roads. The same maze, seed and
+     * inputs always result in the same game.
+     *
+     * @param map  cells of the maze file.
+     * @param seed seed of the random generator.
+     */
+    public MazeModel(MazeGrid map, long seed) {
+        this(map, seed, Enemy.DEFAULT_POWER);
+    }
+
+    /**
+     * Constructor for MazeModel with a given enemy power, e.g. to tune the difficulty in
+     * batch simulations or to replay a game recorded with another enemy power.
+     *
+     * @param map        cells of the maze file.
+     * @param seed       seed of the random generator.
+     * @param enemyPower share of the time the enemies move, between 0 and 1.
+     */
+    public MazeModel(MazeGrid map, long seed, float enemyPower) {
+        mapHash = map.contentHash();
+        this.enemyPower = enemyPower;
+        this.seed = seed;
+
+        road = new Road();
+        exit = new Exit();
+        trap = new Trap();
+        key = new Key();
+        // ArrayList is better for randomly accessing elements for the movements.
+        enemies = new ArrayList<>();
+
+        random = new Random(seed);
+
+        // Maximum value of the x-coordinate/row number in the maze file.
+        // It is necessary instead of looping through the keySet, because we need to create road objects too.
+        mapsize = Math.max(map.getWidth() - 1, 0);
+
+        // The maze is read as a square of (mapsize + 1) x (mapsize + 1) tiles.
+        wallManager = new WallManager(mapsize + 1, mapsize + 1);
+        tileIndex = new TileIndex(mapsize + 1, mapsize + 1);
+        // Enemies further away than the simulated chunks sleep and need no path
+        flowField = new FlowField(wallManager, (SimulationLod.FAR_RANGE + 1) * SimulationLod.CHUNK_SIZE);
+        lineOfSight = new LineOfSight(wallManager, SIGHT_RANGE);
+
+        //Using mapSize to loop through the keySets and adding game elements according to the value of each keySet in the maze file
+        for (int width = 0; width <= mapsize; width++) {
+            // Neighbour bits of the wall below the current tile, -1 if it is no wall. The tiles of a column are visited upwards.
+            int belowNeighbours = -1;
+            for (int height = 0; height <= mapsize; height++) {
+                byte value = map.get(width, height);
+                int neighbours = -1;
+                if (value == MazeGrid.EMPTY) {
+                    // Adding roads for keySets within the mapSize but not present in the maze file.
+                    addRoad(width, height);
+                } else {
+                    switch (value) {
+                        case 0 -> {
+                            // Adding wall for value 0, its type depends on the walls around it
+                            neighbours = wallNeighbours(map, width, height);
+                            addWall(width, height, WallType.fromNeighbours(neighbours, belowNeighbours));
+                        }
+
+                        case 1 -> {
+                            // Adding the entryPoint and main character for value 1
+                            entryPoint = new EntryPoint(width * 64, height * 64);
+                            character = new Character(width * 64, height * 64);
+                        }
+                        case 2 -> {
+                            // Adding exits for value 2
+                            exit.add(width * 64, height * 64);
+                            tileIndex.set(width, height, TileIndex.EXIT);
+                        }
+                        case 3 -> {
+                            // Adding stationary trap and also road(beneath the trap) for value 3
+                            trap.add(width * 64, height * 64);
+                            addRoad(width, height);
+                        }
+                        case 4 -> {
+                            // Adding enemy and also road (beneath the enemy) for value 4
+                            Enemy enemy = new Enemy(width * 64, height * 64, random, enemyPower);
+                            enemies.add(enemy);
+                            addRoad(width, height);
+                        }
+                        case 5 -> {
+                            key.add(width * 64, height * 64);
+                            addRoad(width, height);
+                        }
+                    }
+                }
+                belowNeighbours = neighbours;
+            }
+        }
+
+        if (character == null) {
+            throw new IllegalArgumentException("The maze has no entry point (value 1)");
+        }
+
+        //Total number of available keys in the game
+        totalKeys = key.getKeys().size();
+
+        // The sample is a random subset of the roads, shuffling it makes every part of it one as well
+        roadSample.shuffle(random);
+
+        //Adding the Extra (Bonus) collectibles for the player in the maze
+        if ((float) (roadCount / (wallManager.getWallCount(WallType.MIDDLE) + 1)) < 25) {
+            // Select random 4 road coordinates for each type of collectible.
+            speedUpCoordinates = selectCollectibles(0, 4);
+            enemySpeedUpCoordinates = selectCollectibles(4, 4);
+            heartCoordinates = selectCollectibles(8, 4);
+        }
+        // Smaller maps get 1 of each type of collectible.
+        else {
+            // Select random 1 road coordinate for each type of collectible.
+            speedUpCoordinates = selectCollectibles(0, 1);
+            enemySpeedUpCoordinates = selectCollectibles(1, 1);
+            heartCoordinates = selectCollectibles(2, 1);
+
+        }
+
+        interactions = new InteractionIndex(mapsize + 1, mapsize + 1);
+        interactions.addAll(InteractionIndex.TRAP, trap.getTraps());
+        interactions.addAll(InteractionIndex.KEY, key.getKeys());
+        interactions.addAll(InteractionIndex.EXIT, exit.getExits());
+        interactions.addAll(InteractionIndex.SPEED_UP, speedUpCoordinates);
+        interactions.addAll(InteractionIndex.ENEMY_SPEED_UP, enemySpeedUpCoordinates);
+        interactions.addAll(InteractionIndex.HEART, heartCoordinates);
+
+        simulationLod = new SimulationLod(mapsize + 1, mapsize + 1, enemies);
+
+        // The enemies get their phases in turn, so the same number of them thinks in every step.
+        // The enemies of a phase are scheduled together, so the scheduler does not go through all enemies in every step.
+        int thinkInterval = Math.max(MIN_THINK_INTERVAL, (enemies.size() + THINKS_PER_STEP - 1) / THINKS_PER_STEP);
+        aiScheduler = new LoadBalancingScheduler(thinkInterval);
+        ThinkGroup[] thinkGroups = new ThinkGroup[thinkInterval];
+        for (int i = 0; i < enemies.size(); i++) {
+            int phase = i % thinkInterval;
+            if (thinkGroups[phase] == null) {
+                thinkGroups[phase] = new ThinkGroup();
+                aiScheduler.add(thinkGroups[phase], thinkInterval, phase);
+            }
+            thinkGroups[phase].brains.add(new EnemyBrain(this, enemies.get(i), random));
+        }
+    }
+
+
+    /**
+     * Advances the game by one simulation step: moves the enemies and the character,
+     * detects interactions between the character and the other game elements, sets the
+     * enemy movement directions and checks the winning and losing conditions.
+     * Does nothing once the game is won or lost.
+     *
+     * @param delta The time in seconds the game advances.
+     * @param input The movement buttons pressed by the player.
+     */
+    public void step(float delta, InputState input) {
+        // Start of the step, the rendering interpolates from here to the new positions.
+        character.saveStepStart();
+        // Only the enemies close to the character move in this step, the others are not on the screen
+        simulationLod.update(character.getX(), character.getY());
+
+        if (isGameOver()) {
+            return;
+        }
+
+        sinusInput += delta; // Increases with each step
+
+        // Decreases with each step. Used to change the direction of the enemies every 8 seconds.
+        countDownEnemy -= delta;
+
+        character.setMoving(false);
+
+        // The stationary game elements touched by the character, it only moves at the end of the step
+        interactions.query(character);
+
+        //Traps
+        for (int hit = 0; hit < interactions.getHitCount(); hit++) {
+            // Detects character's collision with the trap.
+            if (interactions.getHitKind(hit) == InteractionIndex.TRAP) {
+                hitCharacter();
+            }
+        }
+
+        //Enemies
+        if (profiler != null) {
+            profiler.start(FrameProfiler.Phase.ENEMY_AI);
+        }
+        updateEnemyPhase();
+        // Only clears the cached sight lines if the character entered another tile
+        lineOfSight.update(character.getX(), character.getY());
+        // Only the enemies whose turn it is decide where to go, see EnemyBrain
+        aiScheduler.run(AI_BUDGET_MICROS * 1000);
+        if (enemyIntelligent && flowFieldPathing) {
+            // Only searches the paths again if the character entered another tile
+            flowField.update(character.getX(), character.getY());
+        }
+        // StrictMath gives the same result on every platform, so replays stay exact
+        double sinus = StrictMath.sin(sinusInput);
+        int activeEnemies = simulationLod.getActiveCount();
+        if (enemyPool != null && activeEnemies >= PARALLEL_ENEMIES) {
+            enemyPool.invoke(new EnemyMove(0, activeEnemies, delta, sinus));
+        } else {
+            for (int i = 0; i < activeEnemies; i++) {
+                moveEnemy(simulationLod.getActive(i), delta * simulationLod.getActiveSteps(i), sinus);
+            }
+        }
+        // Collisions are checked after all enemies moved and in their order, so the result does not depend on the threads.
+        // The enemies which did not move are too far away to touch the character.
+        for (int i = 0; i < activeEnemies; i++) {
+            Enemy enemy = simulationLod.getActive(i);
+            // Detects character's collision with the enemy.
+            if (character.detectCollision(enemy.getX(), enemy.getY())) {
+                hitCharacter();
+            }
+        }
+        simulationLod.relocateActive();
+        if (profiler != null) {
+            profiler.stop(FrameProfiler.Phase.ENEMY_AI);
+        }
+
+        // Keys and Extra(Bonus) Collectibles
+        collect(InteractionIndex.KEY);
+        collect(InteractionIndex.ENEMY_SPEED_UP);
+        collect(InteractionIndex.HEART);
+        collect(InteractionIndex.SPEED_UP);
+
+        //Checks if the game is already lost.
+        if (isGameLost) {
+            return;
+        }
+
+        //Resetting enemy speed once the cool down timer for enemy speedup reaches zero
+        if (!character.enemyCooldown(delta) && enemiesSpedUp) {
+            for (Enemy enemy : enemies) {
+                enemy.setSpeed(enemySpeed);
+            }
+            enemiesSpedUp = false;
+        }
+
+        for (int hit = 0; hit < interactions.getHitCount(); hit++) {
+            //Checks if the winning condition is satisfied
+            if (!isGameWon && character.getNumKeys() == totalKeys && interactions.getHitKind(hit) == InteractionIndex.EXIT) {
+                notifyListener(GameEvent.GAME_WON);
+                isGameWon = true;
+            }
+        }
+
+        if (profiler != null) {
+            profiler.start(FrameProfiler.Phase.CHARACTER_MOVE);
+        }
+        moveCharacter(delta, input);
+        if (profiler != null) {
+            profiler.stop(FrameProfiler.Phase.CHARACTER_MOVE);
+        }
+    }
+
+
+    /**
+     * Picks up all elements of the given kind touched by the character and applies their
+     * effect. Picked up elements are removed from the maze.
+     *
+     * @param kind InteractionIndex.KEY, ENEMY_SPEED_UP, HEART or SPEED_UP.
+     */
+    private void collect(int kind) {
+        for (int hit = 0; hit < interactions.getHitCount(); hit++) {
+            if (interactions.getHitKind(hit) != kind) {
+                continue;
+            }
+            int element = interactions.getHit(hit);
+            switch (kind) {
+                case InteractionIndex.KEY -> {
+                    notifyPickup(GameEvent.KEY_COLLECTED, element);
+                    character.setNumKeys(character.getNumKeys() + 1);// Increases number of keys with the character
+                }
+                case InteractionIndex.ENEMY_SPEED_UP -> {
+                    character.setCoolDownEnemy(8f); // Sets a coolDown Timer for enemy speed up
+                    notifyPickup(GameEvent.ENEMY_SPEED_UP_COLLECTED, element);
+
+                    //Increases the speed of all enemies by 75%
+                    for (Enemy enemy : enemies) {
+                        enemy.setSpeed(enemy.getSpeed() * 1.75f);
+                    }
+                    enemiesSpedUp = true;
+                }
+                case InteractionIndex.HEART -> {
+                    character.setCharacterLives(character.getCharacterLives() + 1); // Increases character lives by 1
+                    notifyPickup(GameEvent.HEART_COLLECTED, element);
+                }
+                case InteractionIndex.SPEED_UP -> {
+                    notifyPickup(GameEvent.SPEED_UP_COLLECTED, element);
+
+                    character.setCoolDownSpeedUp(8f); // Sets a Cool down timer for character speed up
+                    character.setSpeed(character.getSpeed() * 1.75f); // Increases Character speed by 75%
+                }
+            }
+            // Removes the element with which the collision took place, also from its coordinates
+            interactions.remove(element);
+        }
+    }
+
+
+    /**
+     * Decreases the character lives on collision with an enemy or a trap, if the
+     * coolDownTimer for these collisions is 0, i.e. no other collision with
+     * traps/enemies in the past 3 seconds. Loses the game if no lives are left.
+     */
+    private void hitCharacter() {
+        if (character.getCoolDownTimer() == 0.0f) {
+
+            // Decreases character lives by 1 ( only if >1)
+            if (character.decreaseCharacterLives()) {
+                notifyListener(GameEvent.HIT);
+
+            } else if (!isGameLost) {
+                isGameLost = true;
+                notifyListener(GameEvent.GAME_OVER);
+            }
+        }
+    }
+
+
+    /**
+     * Every 8 seconds switches the enemies between wandering and hunting, in which they
+     * chase the character once they see it. The enemies do not turn here: each one notices
+     * the switch the next time it thinks, see EnemyState.
+     */
+    private void updateEnemyPhase() {
+        if (countDownEnemy < 0) {
+            enemyIntelligent = false;
+            countDownEnemy = 16;
+        } else if (!enemyIntelligent && countDownEnemy < 8) {
+            enemyIntelligent = true;
+            countDownEnemy = 8;
+        }
+    }
+
+
+    /**
+     * Method responsible for moving an enemy in its current direction and detecting
+     * its collision with maze walls.
+     *
+     * @param enemy Refers to the individual enemy that has to be moved.
+     * @param delta The time in seconds the enemy moves for, several steps at once for enemies far from the character.
+     * @param sinus The sine of sinusInput, an enemy only moves while it is inside the enemy's window.
+     */
+    private void moveEnemy(Enemy enemy, float delta, double sinus) {
+        enemy.setMoving(false);
+
+        if (enemy.isChasing() && flowFieldPathing) {
+            // Follows the shortest path to the character, keeps its direction if there is none
+            enemy.setDirection(flowField.steer(enemy.getX(), enemy.getY(), enemy.getDirection()));
+        }
+
+        if (sinus >= enemy.getIdSinus() && sinus < enemy.getIdSinus() + enemyPower) {
+            // LEFT Direction
+            int direction = enemy.getDirection();
+            if (direction == 0) {
+                enemy.moveLeft(delta);
+            } else if (direction == 1) {
+                enemy.moveRight(delta);
+            } else if (direction == 2) {
+                enemy.moveUp(delta);
+            } else {
+                enemy.moveDown(delta);
+            }
+
+            if (wallManager.wallCollision(enemy.getX(), enemy.getY()) ||
+                    (direction == 0 && enemy.getX() < 0) ||
+                    (direction == 1 && enemy.getX() > mapsize * 64) ||
+                    (direction == 2 && enemy.getY() > mapsize * 64) ||
+                    (direction == 3 && enemy.getY() < 0)) {
+                enemy.setX(enemy.getPrevX());
+                enemy.setY(enemy.getPrevY());
+                enemy.setBlocked(true);
+            } else {
+                enemy.setBlocked(false);
+                if (direction == 0 || direction == 1) {
+                    enemy.setPrevX(enemy.getX());
+                } else {
+                    enemy.setPrevY(enemy.getY());
+                }
+            }
+        }
+    }
+
+
+    /**
+     * The brains of the enemies thinking in the same step, run one after another in the order of the enemies.
+     */
+    private static final class ThinkGroup implements Schedulable {
+        private final List<EnemyBrain> brains = new ArrayList<>();
+
+        @Override
+        public void run(long nanoTimeToRun) {
+            for (int i = 0; i < brains.size(); i++) {
+                brains.get(i).run(nanoTimeToRun / brains.size());
+            }
+        }
+    }
+
+
+    /**
+     * Task moving a range of the active enemies of the SimulationLod, split into halves until a
+     * range holds at most ENEMY_BATCH enemies. Every enemy only reads the walls and the flow field,
+     * which do not change while the enemies move, and only writes its own position and direction.
+     */
+    private final class EnemyMove extends RecursiveAction {
+        private final int from; // first enemy of the range
+        private final int to; // end of the range, exclusive
+        private final float delta;
+        private final double sinus;
+
+        private EnemyMove(int from, int to, float delta, double sinus) {
+            this.from = from;
+            this.to = to;
+            this.delta = delta;
+            this.sinus = sinus;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ENEMY_BATCH) {
+                for (int i = from; i < to; i++) {
+                    moveEnemy(simulationLod.getActive(i), delta * simulationLod.getActiveSteps(i), sinus);
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new EnemyMove(from, middle, delta, sinus), new EnemyMove(middle, to, delta, sinus));
+            }
+        }
+    }
+
+
+    /**
+     * Method responsible for applying the player input for character movement and
+     * detecting character's collision with maze walls. Also, decreases the values of
+     * the cool down timers for character speed up and collision with enemies/traps.
+     *
+     * @param delta The time in seconds the character moves for.
+     * @param input The movement buttons pressed by the player.
+     */
+    private void moveCharacter(float delta, InputState input) {
+        if (input.isPressed(InputState.LEFT)) {
+            character.moveLeft(delta);
+
+            //Resetting character x,y coordinates to previous coordinates if wall collision detected (or)
+            // character is outside the leftmost x-coordinate of the maze.
+            if (wallManager.wallCollision(character.getX(), character.getY()) || character.getX() < 0) {
+                character.setX(character.getPrevX());
+                character.setY(character.getPrevY());
+            } else {
+                //Updating character PrevX value.
+                character.setPrevX(character.getX());
+            }
+        } else if (input.isPressed(InputState.RIGHT)) {
+            character.moveRight(delta);
+
+            //Resetting character x,y coordinates to previous coordinates if wall collision detected (or)
+            // character is outside the rightmost x-coordinate of the maze.
+            if (wallManager.wallCollision(character.getX(), character.getY()) || (int) character.getX() > mapsize * 64) {
+                character.setX(character.getPrevX());
+                character.setY(character.getPrevY());
+            } else {
+                //Updating character PrevX value.
+                character.setPrevX(character.getX());
+            }
+        } else if (input.isPressed(InputState.UP)) {
+            character.moveUp(delta);
+
+            //Resetting character x,y coordinates to previous coordinates if wall collision detected (or)
+            // character is outside the uppermost y-coordinate of the maze.
+            if (wallManager.wallCollision(character.getX(), character.getY()) || (int) character.getY() > mapsize * 64) {
+                character.setX(character.getPrevX());
+                character.setY(character.getPrevY());
+            } else {
+                //Updating character PrevY value.
+                character.setPrevY(character.getY());
+            }
+        } else if (input.isPressed(InputState.DOWN)) {
+            character.moveDown(delta);
+
+            //Resetting character x,y coordinates to previous coordinates if wall collision detected (or)
+            // character is outside the bottom most y-coordinate of the maze.
+            if (wallManager.wallCollision(character.getX(), character.getY()) || character.getY() < 0) {
+                character.setX(character.getPrevX());
+                character.setY(character.getPrevY());
+            } else {
+                //Updating character PrevY value.
+                character.setPrevY(character.getY());
+            }
+        }
+
+        // Decreases the values of the active timers by the delta.
+        character.speedUpCooldown(delta);
+        character.startCoolDownTimer(delta);
+    }
+
+
+    /**
+     * Adds a road to the given tile. Every road read so far has the same chance to be in the
+     * roadSample afterwards (reservoir sampling with the random generator of the game).
+     *
+     * @param width  the first digit in the keypair.
+     * @param height the second digit in the keypair.
+     */
+    private void addRoad(int width, int height) {
+        tileIndex.set(width, height, TileIndex.ROAD);
+        roadCount++;
+        if (roadSample.size() < COLLECTIBLE_ROADS) {
+            roadSample.add(width * 64, height * 64);
+        } else {
+            int index = random.nextInt(roadCount);
+            if (index < COLLECTIBLE_ROADS) {
+                roadSample.set(index, width * 64, height * 64);
+            }
+        }
+    }
+
+    /**
+     * Adds a wall of the given type to the given tile.
+     *
+     * @param width    the first digit in the keypair.
+     * @param height   the second digit in the keypair.
+     * @param wallType the type of the wall.
+     */
+    private void addWall(int width, int height, WallType wallType) {
+        wallManager.addWall(width * 64, height * 64, wallType);
+        tileIndex.set(width, height, TileIndex.wallTile(wallType));
+    }
+
+
+    /**
+     * Copies a part of the shuffled road sample into a new array of collectibles.
+     *
+     * @param start index of the first selected road.
+     * @param count number of selected roads.
+     * @return the coordinates of the selected roads.
+     */
+    private CoordinateArray selectCollectibles(int start, int count) {
+        CoordinateArray collectibles = new CoordinateArray(count);
+        collectibles.addAll(roadSample, start, count);
+        return collectibles;
+    }
+
+
+    /**
+     * Reports a game event to the listener, if one is set.
+     *
+     * @param event the event which happened.
+     */
+    private void notifyListener(GameEvent event) {
+        if (listener != null) {
+            listener.onGameEvent(event);
+        }
+    }
+
+
+    /**
+     * Reports a collected element to the listener, if one is set.
+     *
+     * @param event   the event which happened, e.g. KEY_COLLECTED.
+     * @param element the collected element, its id in the InteractionIndex.
+     */
+    private void notifyPickup(GameEvent event, int element) {
+        if (listener != null) {
+            listener.onPickup(event, element);
+        }
+    }
+
+
+    /**
+     * Checks if a wall (value 0) exists for the given keypair in the maze file.
+     *
+     * @param map    cells of the maze file.
+     * @param width  the first digit in the keypair.
+     * @param height the second digit in the keypair.
+     * @return true if wall (value 0) exists for the given keypair.
+     */
+    private static boolean isWall(MazeGrid map, int width, int height) {
+        return map.get(width, height) == 0;
+    }
+
+    /**
+     * Finds the walls next to the given tile.
+     *
+     * @param map    cells of the maze file.
+     * @param width  the first digit in the keypair.
+     * @param height the second digit in the keypair.
+     * @return the neighbour bits (WallType.UP, RIGHT, DOWN and LEFT) of the walls around the tile.
+     */
+    private static int wallNeighbours(MazeGrid map, int width, int height) {
+        int neighbours = 0;
+        if (isWall(map, width, height + 1)) {
+            neighbours |= WallType.UP;
+        }
+        if (isWall(map, width + 1, height)) {
+            neighbours |= WallType.RIGHT;
+        }
+        if (isWall(map, width, height - 1)) {
+            neighbours |= WallType.DOWN;
+        }
+        if (isWall(map, width - 1, height)) {
+            neighbours |= WallType.LEFT;
+        }
+        return neighbours;
+    }
+
+
+    // getters and setters for different attributes
+    public void setListener(GameEventListener listener) {
+        this.listener = listener;
+    }
+
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Sets the pool moving the enemies in parallel once there are at least PARALLEL_ENEMIES of them.
+     * The game stays exactly the same as with moving them one after another.
+     *
+     * @param enemyPool the pool, null to move all enemies on the calling thread.
+     */
+    public void setEnemyPool(ForkJoinPool enemyPool) {
+        this.enemyPool = enemyPool;
+    }
+
+    /**
+     * Sets the base speed of all enemies, e.g. to tune the difficulty in batch simulations.
+     *
+     * @param enemySpeed the speed in pixels per second, 180 by default.
+     */
+    public void setEnemySpeed(float enemySpeed) {
+        this.enemySpeed = enemySpeed;
+        for (Enemy enemy : enemies) {
+            enemy.setSpeed(enemySpeed);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public float getEnemyPower() {
+        return enemyPower;
+    }
+
+    public float getEnemySpeed() {
+        return enemySpeed;
+    }
+
+    public boolean isGameLost() {
+        return isGameLost;
+    }
+
+    public boolean isGameWon() {
+        return isGameWon;
+    }
+
+    public boolean isGameOver() {
+        return isGameLost || isGameWon;
+    }
+
+    public float getSinusInput() {
+        return sinusInput;
+    }
+
+    public WallManager getWallManager() {
+        return wallManager;
+    }
+
+    public Road getRoad() {
+        return road;
+    }
+
+    public InteractionIndex getInteractions() {
+        return interactions;
+    }
+
+    public Character getCharacter() {
+        return character;
+    }
+
+    public EntryPoint getEntryPoint() {
+        return entryPoint;
+    }
+
+    public Exit getExit() {
+        return exit;
+    }
+
+    public Trap getTrap() {
+        return trap;
+    }
+
+    public Key getKey() {
+        return key;
+    }
+
+    public List<Enemy> getEnemies() {
+        return enemies;
+    }
+
+    public CoordinateArray getSpeedUpCoordinates() {
+        return speedUpCoordinates;
+    }
+
+    public CoordinateArray getEnemySpeedUpCoordinates() {
+        return enemySpeedUpCoordinates;
+    }
+
+    public CoordinateArray getHeartCoordinates() {
+        return heartCoordinates;
+    }
+
+    public int getMapsize() {
+        return mapsize;
+    }
+
+    public int getTotalKeys() {
+        return totalKeys;
+    }
+
+    public long getMapHash() {
+        return mapHash;
+    }
+
+    public TileIndex getTileIndex() {
+        return tileIndex;
+    }
+
+    public FlowField getFlowField() {
+        return flowField;
+    }
+
+    public boolean isEnemyIntelligent() {
+        return enemyIntelligent;
+    }
+
+    public SimulationLod getSimulationLod() {
+        return simulationLod;
+    }
+
+    public LineOfSight getLineOfSight() {
+        return lineOfSight;
+    }
+
+    public boolean isFlowFieldPathing() {
+        return flowFieldPathing;
+    }
+
+    public void setFlowFieldPathing(boolean flowFieldPathing) {
+        this.flowFieldPathing = flowFieldPathing;
+    }
+}
@@ -5,14 +5,15 @@
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncTask;
 import games.spooky.gdx.nativefilechooser.NativeFileChooser;
 import games.spooky.gdx.nativefilechooser.NativeFileChooserCallback;
 import games.spooky.gdx.nativefilechooser.NativeFileChooserConfiguration;
 import games.spooky.gdx.nativefilechooser.NativeFileChooserIntent;
 
-import java.io.IOException;
-
 /**
  * The MazeRunnerGame class represents the core of the Maze Runner game.
  * Extends the Game class and manages the screens and global resources
@@ -29,6 +30,10 @@ public class MazeRunnerGame extends Game {
     // UI Skin
     private Skin skin;
 
+    // Loading of the game assets and mazes
+    private AssetCache assetCache; // Loads and owns the textures and sounds of the GameScreen, kept for restarts
+    private AsyncExecutor loadingExecutor; // Background thread creating the MazeModel of a chosen maze
+
     //Background Music
     private Music backgroundGame;
     private Music backgroundMenu;
@@ -36,6 +41,9 @@ public class MazeRunnerGame extends Game {
     private final NativeFileChooser fileChooser;
     private final NativeFileChooserConfiguration fileChooserConfig;
     private String filePath;
+    private int tickRate = FixedTimestep.DEFAULT_TICK_RATE; // simulation steps per second of the GameScreen
+    private int generatedMazeSize = 101; // tiles along each axis of mazes generated from the menu
+    private String replayDirectory; // directory the replays of all games are saved to, null to save none
 
 
     /**
@@ -58,6 +66,8 @@ public void create() {
 
         spriteBatch = new SpriteBatch(); // Create SpriteBatch
         skin = new Skin(Gdx.files.internal("craft/craftacular-ui.json")); // Load UI skin
+        assetCache = new AssetCache();
+        loadingExecutor = new AsyncExecutor(1, "MazeLoader");
 
         // Play some background music
         // Background sound
@@ -71,9 +81,13 @@ public void create() {
 
     /**
      * Switches the screen to the menu screen, stops gameScreen background music (if playing)
-     * and plays menuScreen background music.
+     * and plays menuScreen background music. If the game is not only paused, the gameScreen
+     * is disposed.
      */
     public void goToMenu(boolean isPaused) {
+        if (!isPaused) {
+            disposeGameScreen();
+        }
         this.menuScreen = new MenuScreen(this, isPaused);
         this.setScreen(menuScreen); // Set the current screen to MenuScreen
 
@@ -125,19 +139,16 @@ public boolean isPaused() {
     }
 
     /**
-     * Opens a new window for choosing a maze file (.properties). If
-     * appropriate file is chosen, initializes a new gameScreen with
-     * the chosen maze file and switches to it.Also,disposes the menuScreen
-     * resources and sets it to null(if not null)and switches background music.
-     *
-     * @throws IOException If any I/O error occurs during the file handling.
+     * Opens a new window for choosing a maze file (.properties or binary .maze). If
+     * appropriate file is chosen, switches to a LoadingScreen loading the chosen
+     * maze file. Also, disposes the menuScreen resources and sets it to null(if not null).
      */
-    public void goToGame() throws IOException {
+    public void goToGame() {
 
 
         fileChooserConfig.title = "Pick a maze file"; // Title of the window that will be opened
         fileChooserConfig.intent = NativeFileChooserIntent.OPEN; // We want to open a file
-        fileChooserConfig.nameFilter = (file, name) -> name.endsWith("properties"); // Only accept .properties files
+        fileChooserConfig.nameFilter = (file, name) -> MazeLoader.isMazeFile(name); // Only accept .properties and .maze files
         fileChooserConfig.directory = Gdx.files.absolute(System.getProperty("user.home")); // Open at the user's home directory
 
 
@@ -148,23 +159,10 @@ public void onFileChosen(FileHandle fileHandle) {
                 filePath = fileHandle.path();
 
                 // Here filePath is effective?
-                if (filePath != null && filePath.endsWith("properties")) {
-                    //Creates new GameScreen using the chosen file and switches to it.
-                    try {
-                        gameScreen = new GameScreen(MazeRunnerGame.this, filePath);
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
-                    }
-                    setScreen(gameScreen);
-
-                    //Switches the background music to game background music.
-                    backgroundMenu.stop();
-                    backgroundGame.play();
-
-                    if (menuScreen != null) {
-                        menuScreen.dispose();
-                        menuScreen = null;
-                    }
+                if (filePath != null && MazeLoader.isMazeFile(filePath)) {
+                    //Loads the chosen file in the background, the LoadingScreen starts the game once it is done.
+                    String chosenFile = filePath;
+                    goToLoadingScreen(() -> MazeLoader.load(chosenFile));
                 }
             }
 
@@ -182,18 +180,110 @@ public void onError(Exception exception) {
 
     }
 
+    /**
+     * Generates a new random maze of generatedMazeSize tiles in the background and starts it.
+     * The algorithm and seed are chosen randomly, the number of enemies and keys grows with the size.
+     */
+    public void generateGame() {
+        MazeGenerator.Algorithm[] algorithms = MazeGenerator.Algorithm.values();
+        MazeGenerator.Algorithm algorithm = algorithms[MathUtils.random(algorithms.length - 1)];
+        MazeGenerator generator = new MazeGenerator(generatedMazeSize, algorithm, System.nanoTime());
+        generator.setEnemyCount(MazeGenerator.defaultEnemyCount(generatedMazeSize));
+        generator.setKeyCount(1 + generatedMazeSize / 100);
+        generator.setTrapDensity(0.005);
+        goToLoadingScreen(generator::generate);
+    }
+
+    /**
+     * Switches to a LoadingScreen creating the maze in the background. Also, disposes the
+     * menuScreen resources and sets it to null(if not null).
+     *
+     * @param mazeSource creates the cells of the maze.
+     */
+    private void goToLoadingScreen(AsyncTask<MazeGrid> mazeSource) {
+        setScreen(new LoadingScreen(this, mazeSource));
+
+        if (menuScreen != null) {
+            menuScreen.dispose();
+            menuScreen = null;
+        }
+    }
+
+    /**
+     * Creates a new gameScreen for the loaded model and switches to it.
+     * Also, switches the background music to game background music.
+     *
+     * @param model the model of the loaded maze.
+     */
+    public void startGame(MazeModel model) {
+        disposeGameScreen(); // A paused game is replaced by the new one
+        gameScreen = new GameScreen(this, model);
+        setScreen(gameScreen);
+
+        backgroundMenu.stop();
+        backgroundGame.play();
+    }
+
+    /**
+     * Disposes the gameScreen (if not null) and sets it to null.
+     */
+    private void disposeGameScreen() {
+        if (gameScreen != null) {
+            gameScreen.dispose();
+            gameScreen = null;
+        }
+    }
+
     /**
      * Cleans up resources when the game is disposed.
      */
     @Override
     public void dispose() {
         getScreen().hide(); // Hide the current screen
-        getScreen().dispose(); // Dispose the current screen
+        if (getScreen() != gameScreen) {
+            getScreen().dispose(); // Dispose the current screen
+        }
+        disposeGameScreen(); // Dispose the running or paused game
         spriteBatch.dispose(); // Dispose the spriteBatch
         skin.dispose(); // Dispose the skin
+        TextureRegistry.dispose(); // Release the shared world texture atlas
+        loadingExecutor.dispose(); // Stop the loading thread
+        assetCache.dispose(); // Dispose all cached textures and sounds, exactly once
+    }
+
+    // Getter and setter methods
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public void setTickRate(int tickRate) {
+        this.tickRate = tickRate;
+    }
+
+    public String getReplayDirectory() {
+        return replayDirectory;
+    }
+
+    public void setReplayDirectory(String replayDirectory) {
+        this.replayDirectory = replayDirectory;
+    }
+
+    public int getGeneratedMazeSize() {
+        return generatedMazeSize;
+    }
+
+    public void setGeneratedMazeSize(int generatedMazeSize) {
+        this.generatedMazeSize = generatedMazeSize;
+    }
+
+    public AssetCache getAssetCache() {
+        return assetCache;
+    }
+
+    public AsyncExecutor getLoadingExecutor() {
+        return loadingExecutor;
     }
 
-    // Getter methods
     public Skin getSkin() {
         return skin;
     }
@@ -14,8 +14,6 @@
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
-import java.io.IOException;
-
 /**
  * The MenuScreen class is responsible for displaying the main menu of the game.
  * It extends the LibGDX Screen class and sets up the UI components for the menu.
@@ -27,17 +25,23 @@ public class MenuScreen implements Screen {
 
     //Menu Buttons
     private final TextButton goToGameButton; // To load a maze file
+    private final TextButton generateGameButton; // To play a newly generated maze
+    private final TextButton mazeSizeButton; // To choose the size of generated mazes
     private final TextButton exitButton; // To close the game
     private TextButton resumeGameButton; // To go back to the paused game
 
 
     // Add functionality to the Buttons
     private final ChangeListener goToGame;
+    private final ChangeListener generateGame;
+    private final ChangeListener changeMazeSize;
     private final ChangeListener exitGame;
     private ChangeListener resumeGame;
 
     private boolean isPaused; // Whether the game is paused
 
+    private static final int[] GENERATED_MAZE_SIZES = {51, 101, 201, 501, 1001}; // Sizes offered for generated mazes
+
 
     /**
      * Constructor for MenuScreen. Sets up the camera, viewport, stage, and UI elements.
@@ -91,15 +95,44 @@ public void changed(ChangeEvent event, Actor actor) {
         goToGame = new ChangeListener() {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
-                try {
-                    game.goToGame();
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
+                game.goToGame();
             }
         };
         goToGameButton.addListener(goToGame); //Adding functionality to goToGameButton.
 
+        // Adding a button to play a newly generated maze.
+        generateGameButton = new TextButton("Generate a maze", game.getSkin());
+        table.add(generateGameButton).width(300).row();
+
+        // Creating functionality for the generateGameButton.
+        generateGame = new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                game.generateGame();
+            }
+        };
+        generateGameButton.addListener(generateGame); //Adding functionality to generateGameButton.
+
+        // Adding a button which switches through the sizes of generated mazes.
+        mazeSizeButton = new TextButton(mazeSizeText(game.getGeneratedMazeSize()), game.getSkin());
+        table.add(mazeSizeButton).width(300).row();
+
+        // Creating functionality for the mazeSizeButton.
+        changeMazeSize = new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                int next = 0;
+                for (int i = 0; i < GENERATED_MAZE_SIZES.length; i++) {
+                    if (GENERATED_MAZE_SIZES[i] == game.getGeneratedMazeSize()) {
+                        next = (i + 1) % GENERATED_MAZE_SIZES.length;
+                    }
+                }
+                game.setGeneratedMazeSize(GENERATED_MAZE_SIZES[next]);
+                mazeSizeButton.setText(mazeSizeText(GENERATED_MAZE_SIZES[next]));
+            }
+        };
+        mazeSizeButton.addListener(changeMazeSize); //Adding functionality to mazeSizeButton.
+
         // Adding a button to close the game.
         exitButton = new TextButton("Exit", game.getSkin());
         table.add(exitButton).width(300).row();
@@ -114,6 +147,16 @@ public void changed(ChangeEvent event, Actor actor) {
         exitButton.addListener(exitGame); // Adding functionality to exitButton.
     }
 
+    /**
+     * Returns the text of the mazeSizeButton.
+     *
+     * @param size tiles along each axis of generated mazes.
+     * @return the text showing the size.
+     */
+    private static String mazeSizeText(int size) {
+        return "Size: " + size + "x" + size;
+    }
+
     // Getter for isPaused
     public boolean isPaused() {
         return isPaused;
@@ -144,6 +187,8 @@ public void dispose() {
 
         //Removal of listeners for MenuScreen buttons.
         goToGameButton.removeListener(goToGame);
+        generateGameButton.removeListener(generateGame);
+        mazeSizeButton.removeListener(changeMazeSize);
         exitButton.removeListener(exitGame);
         if (resumeGameButton != null) {
             resumeGameButton.removeListener(resumeGame);
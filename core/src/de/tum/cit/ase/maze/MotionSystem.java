@@ -0,0 +1,56 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+/**
+ * MotionSystem moves the entity of the character to its position interpolated between
+ * the last two simulation steps, and shows the walking animation of the current direction
+ * while it moves. The entities of the enemies are moved by the EnemyRenderSystem, only
+ * around the camera.
+ */
+public class MotionSystem extends IteratingSystem {
+    private final RenderContext context;
+
+    /**
+     * Constructor for MotionSystem.
+     *
+     * @param priority order of the system in the engine, lower runs first.
+     * @param context  the shared values of the frame.
+     */
+    public MotionSystem(int priority, RenderContext context) {
+        super(Family.all(PositionComponent.class, BodyComponent.class, SpriteComponent.class).exclude(EnemyComponent.class).get(), priority);
+        this.context = context;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        context.getProfiler().start(FrameProfiler.Phase.MOTION);
+        super.update(deltaTime);
+        context.getProfiler().stop(FrameProfiler.Phase.MOTION);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        follow(entity, BodyComponent.MAPPER.get(entity).body, context.getAlpha());
+    }
+
+    /**
+     * Moves an entity to the interpolated position of a moving game element of the model
+     * and shows its walking animation while it moves.
+     *
+     * @param entity the entity, it needs a PositionComponent and a SpriteComponent.
+     * @param body   the moving game element.
+     * @param alpha  position of the frame between the last two simulation steps.
+     */
+    public static void follow(Entity entity, DynamicCoordinate<?> body, float alpha) {
+        PositionComponent position = PositionComponent.MAPPER.get(entity);
+        position.x = body.getInterpolatedX(alpha);
+        position.y = body.getInterpolatedY(alpha);
+
+        SpriteComponent sprite = SpriteComponent.MAPPER.get(entity);
+        sprite.animation = body.isMoving() ? body.getAnimation() : null;
+        sprite.region = body.getCurrentTr();
+    }
+}
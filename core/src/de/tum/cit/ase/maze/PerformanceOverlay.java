@@ -0,0 +1,155 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * The PerformanceOverlay class shows the measurements of a FrameProfiler on top of the
+ * game: FPS, frame time percentiles, batch flushes, GL draw calls and texture binds, the
+ * time of every render phase, the allocated bytes per frame and the garbage collections.
+ * The GL counters come from libGDX's GLProfiler, which is only enabled while the overlay
+ * is shown or a CSV file is recorded, since it wraps every GL call.
+ */
+public class PerformanceOverlay {
+
+    private static final int TEXT_UPDATE_FRAMES = 15; // The text is built again every 15 frames, so it can be read
+
+    private final FrameProfiler profiler;
+    private final GLProfiler glProfiler; // Counts the GL draw calls and texture binds
+    private boolean visible;
+    private int batchFlushesStart; // SpriteBatch.totalRenderCalls at the start of the frame
+    private int framesSinceTextUpdate = TEXT_UPDATE_FRAMES;
+    private String text = "";
+
+    /**
+     * Constructor for PerformanceOverlay. The overlay starts hidden.
+     *
+     * @param profiler the profiler measuring the frames.
+     */
+    public PerformanceOverlay(FrameProfiler profiler) {
+        this.profiler = profiler;
+        glProfiler = new GLProfiler(Gdx.graphics);
+    }
+
+    /**
+     * Shows or hides the overlay.
+     */
+    public void toggle() {
+        visible = !visible;
+        updateProfiling();
+    }
+
+    /**
+     * Starts writing every frame into a new CSV file in the working directory, or stops
+     * writing if a file is written already.
+     */
+    public void toggleCsv() {
+        if (profiler.isRecordingCsv()) {
+            profiler.stopCsv();
+        } else {
+            String path = "profile-" + System.currentTimeMillis() + ".csv";
+            try {
+                profiler.startCsv(path);
+                System.out.println("Recording profile: " + path);
+            } catch (IOException e) {
+                System.err.println("Error creating profile CSV: " + e.getMessage());
+            }
+        }
+        updateProfiling();
+    }
+
+    /**
+     * Enables the profilers only while somebody looks at the measurements.
+     */
+    private void updateProfiling() {
+        boolean enabled = visible || profiler.isRecordingCsv();
+        profiler.setEnabled(enabled);
+        if (enabled && !glProfiler.isEnabled()) {
+            glProfiler.enable();
+            glProfiler.reset();
+        } else if (!enabled && glProfiler.isEnabled()) {
+            glProfiler.disable();
+        }
+    }
+
+    /**
+     * Marks the start of a frame.
+     *
+     * @param batch the batch drawing the frame.
+     */
+    public void beginFrame(SpriteBatch batch) {
+        profiler.beginFrame();
+        batchFlushesStart = batch.totalRenderCalls;
+    }
+
+    /**
+     * Marks the end of a frame and collects the graphics counters of the frame.
+     *
+     * @param batch   the batch drawing the frame, after its last end().
+     * @param sprites the number of drawn sprites.
+     */
+    public void endFrame(SpriteBatch batch, int sprites) {
+        if (!profiler.isEnabled()) {
+            return;
+        }
+        profiler.endFrame(batch.renderCalls, batch.totalRenderCalls - batchFlushesStart,
+                glProfiler.getDrawCalls(), glProfiler.getTextureBindings(), sprites);
+        glProfiler.reset();
+    }
+
+    /**
+     * Draws the measurements, starting at the given upper left corner.
+     *
+     * @param batch        the batch, between begin() and end().
+     * @param font         the font of the text.
+     * @param x            x-coordinate of the upper left corner.
+     * @param y            y-coordinate of the upper left corner.
+     * @param totalSprites the number of sprites drawn without culling.
+     */
+    public void draw(SpriteBatch batch, BitmapFont font, float x, float y, int totalSprites) {
+        if (!visible) {
+            return;
+        }
+        if (++framesSinceTextUpdate >= TEXT_UPDATE_FRAMES) {
+            framesSinceTextUpdate = 0;
+            text = buildText(totalSprites);
+        }
+        font.draw(batch, text, x, y);
+    }
+
+    /**
+     * Builds the text of the overlay from the current measurements.
+     */
+    private String buildText(int totalSprites) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "FPS %.0f   frame p50 %.1f ms  p95 %.1f ms  p99 %.1f ms   cpu %.2f ms%n",
+                profiler.getFps(), profiler.getFrameTimePercentile(0.5), profiler.getFrameTimePercentile(0.95),
+                profiler.getFrameTimePercentile(0.99), profiler.getAverageCpuTime()));
+        builder.append(String.format(Locale.ROOT, "Sprites %d / %d   batch flushes %d (last batch %d)   draw calls %d   texture binds %d%n",
+                profiler.getSprites(), totalSprites, profiler.getBatchFlushes(), profiler.getRenderCalls(),
+                profiler.getDrawCalls(), profiler.getTextureBindings()));
+        for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+            builder.append(String.format(Locale.ROOT, "%s %.3f ms%n", phase.name().toLowerCase(Locale.ROOT), profiler.getAveragePhaseTime(phase)));
+        }
+        builder.append(String.format(Locale.ROOT, "Allocated %.1f KB/frame   GC %d (%d ms)%s",
+                profiler.getAverageAllocatedBytes() / 1024f, profiler.getGcCount(), profiler.getGcMillis(),
+                profiler.isRecordingCsv() ? "   recording CSV (F4)" : ""));
+        return builder.toString();
+    }
+
+    /**
+     * Stops the profilers and closes the CSV file.
+     */
+    public void dispose() {
+        profiler.stopCsv();
+        profiler.setEnabled(false);
+        if (glProfiler.isEnabled()) {
+            glProfiler.disable();
+        }
+    }
+}
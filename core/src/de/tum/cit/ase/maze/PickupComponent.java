@@ -0,0 +1,25 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * PickupComponent marks an entity the character collects by touching it, e.g. a key.
+ */
+public class PickupComponent implements Component {
+    public static final ComponentMapper<PickupComponent> MAPPER = ComponentMapper.getFor(PickupComponent.class);
+
+    public final int kind; // InteractionIndex.KEY, SPEED_UP, ENEMY_SPEED_UP or HEART
+    public final int element; // id of the pickup in the InteractionIndex of the model
+
+    /**
+     * Constructor for PickupComponent.
+     *
+     * @param kind    the kind of the pickup, as in the InteractionIndex.
+     * @param element the id of the pickup in the InteractionIndex.
+     */
+    public PickupComponent(int kind, int element) {
+        this.kind = kind;
+        this.element = element;
+    }
+}
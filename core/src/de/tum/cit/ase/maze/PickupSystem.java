@@ -0,0 +1,67 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.IntMap;
+
+/**
+ * PickupSystem removes the entities of collected pickups. The MazeModel decides what
+ * the character collects and reports the id of the collected element in its
+ * InteractionIndex, which leads straight to the entity of the pickup.
+ */
+public class PickupSystem extends EntitySystem implements EntityListener {
+    private static final Family FAMILY = Family.all(PositionComponent.class, PickupComponent.class).get();
+
+    private Engine engine;
+    private final IntMap<Entity> pickups = new IntMap<>(); // element id in the InteractionIndex -> entity
+
+    /**
+     * Constructor for PickupSystem.
+     */
+    public PickupSystem() {
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        this.engine = engine;
+        // The entities are usually added after the system, the listener links them when they come
+        engine.addEntityListener(FAMILY, this);
+        ImmutableArray<Entity> pickupEntities = engine.getEntitiesFor(FAMILY);
+        for (int i = 0; i < pickupEntities.size(); i++) {
+            entityAdded(pickupEntities.get(i));
+        }
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+        pickups.clear();
+        this.engine = null;
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        pickups.put(PickupComponent.MAPPER.get(entity).element, entity);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        pickups.remove(PickupComponent.MAPPER.get(entity).element);
+    }
+
+    /**
+     * Removes the entity of a collected pickup.
+     *
+     * @param element the collected element, its id in the InteractionIndex.
+     */
+    public void removePickup(int element) {
+        Entity pickup = pickups.get(element);
+        if (pickup != null) {
+            engine.removeEntity(pickup);
+        }
+    }
+}
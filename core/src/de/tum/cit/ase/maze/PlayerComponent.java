@@ -0,0 +1,22 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * PlayerComponent marks the entity of the character controlled by the player.
+ */
+public class PlayerComponent implements Component {
+    public static final ComponentMapper<PlayerComponent> MAPPER = ComponentMapper.getFor(PlayerComponent.class);
+
+    public final Character character;
+
+    /**
+     * Constructor for PlayerComponent.
+     *
+     * @param character the character of the model.
+     */
+    public PlayerComponent(Character character) {
+        this.character = character;
+    }
+}
@@ -0,0 +1,26 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * PositionComponent holds where an entity is drawn, the lower left corner in pixels.
+ * Moving entities get it from the MotionSystem every frame.
+ */
+public class PositionComponent implements Component {
+    public static final ComponentMapper<PositionComponent> MAPPER = ComponentMapper.getFor(PositionComponent.class);
+
+    public float x;
+    public float y;
+
+    /**
+     * Constructor for PositionComponent.
+     *
+     * @param x x-coordinate of the entity.
+     * @param y y-coordinate of the entity.
+     */
+    public PositionComponent(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+}
@@ -0,0 +1,126 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * RenderContext class holds what the render systems share during a frame: the batch,
+ * the profiler, the interpolation between the last two simulation steps, the
+ * animation time and the area visible to the camera. It also counts the drawn sprites.
+ */
+public class RenderContext {
+    private static final int CULL_MARGIN = 1; // Extra tiles drawn on each side of the visible area
+
+    private final SpriteBatch batch;
+    private final FrameProfiler profiler;
+    private float alpha; // Position of the frame between the last two simulation steps
+    private float animationTime; // Drives the animations
+
+    // Area of the maze visible to the camera, only game elements inside it (plus a margin) are drawn.
+    private float visibleLeft;
+    private float visibleRight;
+    private float visibleBottom;
+    private float visibleTop;
+    private int drawnSprites; // Number of sprites drawn in the current frame
+
+    /**
+     * Constructor for RenderContext.
+     *
+     * @param batch    the batch drawing the game elements.
+     * @param profiler measures the render systems.
+     */
+    public RenderContext(SpriteBatch batch, FrameProfiler profiler) {
+        this.batch = batch;
+        this.profiler = profiler;
+    }
+
+    /**
+     * Sets the values of a new frame.
+     *
+     * @param alpha         position of the frame between the last two simulation steps.
+     * @param animationTime time used to select the animation frames.
+     * @param left          left edge of the visible area.
+     * @param right         right edge of the visible area.
+     * @param bottom        bottom edge of the visible area.
+     * @param top           top edge of the visible area.
+     * @param drawnSprites  number of sprites drawn so far in the frame.
+     */
+    public void beginFrame(float alpha, float animationTime, float left, float right, float bottom, float top, int drawnSprites) {
+        this.alpha = alpha;
+        this.animationTime = animationTime;
+        visibleLeft = left;
+        visibleRight = right;
+        visibleBottom = bottom;
+        visibleTop = top;
+        this.drawnSprites = drawnSprites;
+    }
+
+    /**
+     * Draws a game element, if it is inside the area visible to the camera
+     * (extended by CULL_MARGIN tiles on each side).
+     *
+     * @param textureRegion the texture of the game element.
+     * @param x             x-coordinate of the game element.
+     * @param y             y-coordinate of the game element.
+     * @param width         drawn width of the game element.
+     * @param height        drawn height of the game element.
+     */
+    public void drawIfVisible(TextureRegion textureRegion, float x, float y, float width, float height) {
+        float margin = CULL_MARGIN * 64;
+        if (x + width + margin >= visibleLeft && x - margin <= visibleRight
+                && y + height + margin >= visibleBottom && y - margin <= visibleTop) {
+            draw(textureRegion, x, y, width, height);
+        }
+    }
+
+    /**
+     * Draws a game element without culling.
+     *
+     * @param textureRegion the texture of the game element.
+     * @param x             x-coordinate of the game element.
+     * @param y             y-coordinate of the game element.
+     * @param width         drawn width of the game element.
+     * @param height        drawn height of the game element.
+     */
+    public void draw(TextureRegion textureRegion, float x, float y, float width, float height) {
+        batch.draw(textureRegion, x, y, width, height);
+        drawnSprites++;
+    }
+
+    // getters for different attributes
+    public SpriteBatch getBatch() {
+        return batch;
+    }
+
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    public float getAlpha() {
+        return alpha;
+    }
+
+    public float getAnimationTime() {
+        return animationTime;
+    }
+
+    public int getDrawnSprites() {
+        return drawnSprites;
+    }
+
+    public float getVisibleLeft() {
+        return visibleLeft;
+    }
+
+    public float getVisibleRight() {
+        return visibleRight;
+    }
+
+    public float getVisibleBottom() {
+        return visibleBottom;
+    }
+
+    public float getVisibleTop() {
+        return visibleTop;
+    }
+}
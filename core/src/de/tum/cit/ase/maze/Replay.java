@@ -0,0 +1,235 @@
+package de.tum.cit.ase.maze;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Replay class records everything needed to repeat a game exactly: the seed of the
+ * MazeModel, a hash of the maze, the tick rate, the enemy power and the movement buttons
+ * of every simulation step. Since the model only depends on these, a ReplayPlayer
+ * simulating the same steps ends in exactly the same state, which is checked with a
+ * hash of the final game state.
+ * The binary .replay format consists of a header (magic number, version, seed, maze hash,
+ * tick rate, enemy power, number of steps and final state hash) followed by the buttons
+ * run-length encoded as (buttons byte, step count as variable length integer) pairs.
+ */
+public class Replay {
+    public static final String EXTENSION = ".replay";
+
+    private static final int MAGIC = 0x4D5A5250; // "MZRP"
+    private static final int VERSION = 4; // 2: enemies decide with EnemyBrain, 3: enemies far from the character move less often, 4: collectibles on sampled roads
+
+    private final long seed; // seed of the MazeModel
+    private final long mapHash; // MazeGrid.contentHash() of the maze
+    private final int tickRate; // simulation steps per second
+    private final float enemyPower; // MazeModel.getEnemyPower() of the game
+    private byte[] buttons; // InputState buttons of every step
+    private int stepCount;
+    private long finalStateHash; // stateHash() after the last step
+
+    /**
+     * Constructor for Replay. Creates an empty recording of a game.
+     *
+     * @param seed       seed of the MazeModel.
+     * @param mapHash    content hash of the maze.
+     * @param tickRate   simulation steps per second.
+     * @param enemyPower MazeModel.getEnemyPower() of the game.
+     */
+    public Replay(long seed, long mapHash, int tickRate, float enemyPower) {
+        this.seed = seed;
+        this.mapHash = mapHash;
+        this.tickRate = tickRate;
+        this.enemyPower = enemyPower;
+        buttons = new byte[1024];
+    }
+
+    /**
+     * Creates an empty recording for the given game.
+     *
+     * @param model    the recorded game, before its first step.
+     * @param tickRate simulation steps per second.
+     * @return the replay.
+     */
+    public static Replay record(MazeModel model, int tickRate) {
+        return new Replay(model.getSeed(), model.getMapHash(), tickRate, model.getEnemyPower());
+    }
+
+    /**
+     * Appends the buttons of the next simulation step.
+     *
+     * @param stepButtons bitmask of the pressed InputState buttons.
+     */
+    public void addStep(int stepButtons) {
+        if (stepCount == buttons.length) {
+            buttons = Arrays.copyOf(buttons, stepCount * 2);
+        }
+        buttons[stepCount++] = (byte) stepButtons;
+    }
+
+    /**
+     * Stores the hash of the game state after the last recorded step.
+     *
+     * @param model the recorded game.
+     */
+    public void finish(MazeModel model) {
+        finalStateHash = stateHash(model);
+    }
+
+    /**
+     * Computes a hash of everything that changes during a game: positions, lives and keys
+     * of the character, positions of the enemies, remaining keys and collectibles and the
+     * game time. Floats are hashed by their bits, so any difference is found.
+     *
+     * @param model the game.
+     * @return the hash of the game state.
+     */
+    public static long stateHash(MazeModel model) {
+        Character character = model.getCharacter();
+        long hash = 17;
+        hash = hash * 31 + Float.floatToIntBits(model.getSinusInput());
+        hash = hash * 31 + Float.floatToIntBits(character.getX());
+        hash = hash * 31 + Float.floatToIntBits(character.getY());
+        hash = hash * 31 + character.getCharacterLives();
+        hash = hash * 31 + character.getNumKeys();
+        List<Enemy> enemies = model.getEnemies();
+        for (Enemy enemy : enemies) {
+            hash = hash * 31 + Float.floatToIntBits(enemy.getX());
+            hash = hash * 31 + Float.floatToIntBits(enemy.getY());
+            hash = hash * 31 + enemy.getDirection();
+        }
+        hash = hash * 31 + model.getKey().getKeys().size();
+        hash = hash * 31 + model.getSpeedUpCoordinates().size();
+        hash = hash * 31 + model.getEnemySpeedUpCoordinates().size();
+        hash = hash * 31 + model.getHeartCoordinates().size();
+        hash = hash * 31 + (model.isGameWon() ? 1 : 0);
+        hash = hash * 31 + (model.isGameLost() ? 1 : 0);
+        return hash;
+    }
+
+    /**
+     * Writes the replay into a .replay file.
+     *
+     * @param path path of the replay file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(String path) throws IOException {
+        try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)))) {
+            outputStream.writeInt(MAGIC);
+            outputStream.writeInt(VERSION);
+            outputStream.writeLong(seed);
+            outputStream.writeLong(mapHash);
+            outputStream.writeInt(tickRate);
+            outputStream.writeFloat(enemyPower);
+            outputStream.writeInt(stepCount);
+            outputStream.writeLong(finalStateHash);
+
+            // The buttons usually stay the same for many steps, so runs are stored instead of single steps
+            int step = 0;
+            while (step < stepCount) {
+                int runEnd = step + 1;
+                while (runEnd < stepCount && buttons[runEnd] == buttons[step]) {
+                    runEnd++;
+                }
+                outputStream.writeByte(buttons[step]);
+                writeVarInt(outputStream, runEnd - step);
+                step = runEnd;
+            }
+        }
+    }
+
+    /**
+     * Reads a .replay file.
+     *
+     * @param path path of the replay file.
+     * @return the replay.
+     * @throws IOException If the file cannot be read or is not a valid replay file.
+     */
+    public static Replay read(String path) throws IOException {
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(path)))) {
+            if (inputStream.readInt() != MAGIC) {
+                throw new IOException("Not a replay file: " + path);
+            }
+            int version = inputStream.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported replay version " + version + ": " + path);
+            }
+            Replay replay = new Replay(inputStream.readLong(), inputStream.readLong(), inputStream.readInt(), inputStream.readFloat());
+            int stepCount = inputStream.readInt();
+            replay.finalStateHash = inputStream.readLong();
+
+            replay.buttons = new byte[Math.max(stepCount, 1)];
+            while (replay.stepCount < stepCount) {
+                byte stepButtons = inputStream.readByte();
+                int run = readVarInt(inputStream);
+                if (run <= 0 || run > stepCount - replay.stepCount) {
+                    throw new IOException("Corrupt replay file: " + path);
+                }
+                Arrays.fill(replay.buttons, replay.stepCount, replay.stepCount + run, stepButtons);
+                replay.stepCount += run;
+            }
+            return replay;
+        }
+    }
+
+    /**
+     * Writes a non-negative integer with 7 bits per byte, the highest bit marks that more bytes follow.
+     */
+    private static void writeVarInt(DataOutputStream outputStream, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            outputStream.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        outputStream.writeByte(value);
+    }
+
+    /**
+     * Reads an integer written by writeVarInt.
+     */
+    private static int readVarInt(DataInputStream inputStream) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = inputStream.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt variable length integer in replay file");
+    }
+
+    // getters for the attributes
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getMapHash() {
+        return mapHash;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public float getEnemyPower() {
+        return enemyPower;
+    }
+
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    public int getButtons(int step) {
+        return buttons[step];
+    }
+
+    public long getFinalStateHash() {
+        return finalStateHash;
+    }
+}
@@ -0,0 +1,85 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * ReplayPlayer class simulates a recorded game again, step by step with the recorded
+ * buttons. It can be stepped one step at a time to watch a bug happen, or run to the
+ * end as fast as possible to profile a game. Afterwards, verify() checks that the game
+ * ended in exactly the recorded state.
+ */
+public class ReplayPlayer {
+
+    private final Replay replay;
+    private final MazeModel model; // The game simulated again
+    private final InputState inputState;
+    private final float stepTime; // Same step length as FixedTimestep, so every step is bit-identical
+    private int step; // Number of simulated steps
+
+    /**
+     * Constructor for ReplayPlayer. Creates the game from the recorded seed and enemy power.
+     *
+     * @param replay the recorded game.
+     * @param map    cells of the maze the game was recorded on.
+     */
+    public ReplayPlayer(Replay replay, MazeGrid map) {
+        if (map.contentHash() != replay.getMapHash()) {
+            throw new IllegalArgumentException("The replay was recorded on another maze");
+        }
+        this.replay = replay;
+        model = new MazeModel(map, replay.getSeed(), replay.getEnemyPower());
+        inputState = new InputState();
+        stepTime = 1f / replay.getTickRate();
+    }
+
+    /**
+     * Simulates the next recorded step.
+     *
+     * @return false if all recorded steps were simulated already.
+     */
+    public boolean step() {
+        if (isFinished()) {
+            return false;
+        }
+        inputState.setButtons(replay.getButtons(step++));
+        model.step(stepTime, inputState);
+        return true;
+    }
+
+    /**
+     * Simulates all remaining recorded steps.
+     */
+    public void runToEnd() {
+        while (step()) {
+            // the steps do all the work
+        }
+    }
+
+    /**
+     * Checks whether the game ended in the recorded state. Only meaningful once finished.
+     *
+     * @return true if the simulated game is identical to the recorded one.
+     */
+    public boolean verify() {
+        return Replay.stateHash(model) == replay.getFinalStateHash();
+    }
+
+    // getters for the attributes
+    public boolean isFinished() {
+        return step >= replay.getStepCount();
+    }
+
+    public int getStep() {
+        return step;
+    }
+
+    public InputState getInputState() {
+        return inputState;
+    }
+
+    public MazeModel getModel() {
+        return model;
+    }
+
+    public Replay getReplay() {
+        return replay;
+    }
+}
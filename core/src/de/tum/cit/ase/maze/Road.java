@@ -1,57 +1,40 @@
 package de.tum.cit.ase.maze;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
- * Road class is responsible for holding all the walkable paths in the game and their texture.
- * It implements Add and DisposeTextureRegion enabling the addition of roads to the existing
- * list and disposal of texture when required.
+ * Road class is responsible for the texture of the walkable paths in the game. Where the
+ * roads are is only stored in the TileIndex of the MazeModel, one byte per tile, so the
+ * roads do not keep any coordinates. It implements DisposeTextureRegion enabling the
+ * disposal of the texture when required.
  */
-public class Road implements Add<Number>, DisposeTextureRegion{
+public class Road implements DisposeTextureRegion{
 
-    private final TextureRegion textureRegion;
-    private final List<Coordinate<Number>> roads; // list of all roads in the game
+    private TextureRegion textureRegion; // loaded on first use, so roads can also be created without graphics
 
     /**
-     * Constructor for Road. Initializes the list roads and assigns the correct textureRegion.
+     * Constructor for Road. The textureRegion is loaded when it is first requested.
      */
     public Road() {
-        roads = new ArrayList<>();
-        textureRegion = new TextureRegion(new Texture(Gdx.files.internal("basictiles.png")), 16, 9 * 16, 16, 16);
     }
 
     /**
-     * Creates and adds a Coordinate type object to the roads list
-     * @param x sets the x-coordinate of the newly created Coordinate type object.
-     * @param y sets the y-coordinate of the newly created Coordinate type object.
-     */
-    public void add(Number x, Number y) {
-        roads.add(new Coordinate<>(x, y));
-    }
-
-    /**
-     * Disposes the road texture.
+     * Releases the road texture. The texture is shared and disposed by TextureRegistry.
      */
     @Override
     public void disposeTx() {
-        textureRegion.getTexture().dispose();
+        textureRegion = null;
     }
 
 
     // getters for the attributes
     public TextureRegion getTextureRegion() {
+        if (textureRegion == null) {
+            textureRegion = TextureRegistry.getRegion("basictiles", 16, 9 * 16, 16, 16);
+        }
         return textureRegion;
     }
 
-    public List<Coordinate<Number>> getRoads() {
-        return roads;
-    }
-
 
 
 }
@@ -0,0 +1,189 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SimulationLod class decides how often every enemy is simulated, by its distance to the
+ * character, which the camera follows. The maze is split into chunks of CHUNK_SIZE x
+ * CHUNK_SIZE tiles and the enemies are kept in buckets by the chunk they are in:
+ * enemies up to NEAR_RANGE chunks around the chunk of the character, which covers the
+ * screen plus a margin, move in every step. Enemies up to FAR_RANGE chunks away move
+ * every MID_INTERVAL steps, by the time of all these steps at once. Enemies further away
+ * sleep: they keep their position and direction until the character comes close again.
+ * Only the chunks around the character are visited, so the cost of a step depends on the
+ * enemies close to the character and not on the size of the maze.
+ * The ranges only depend on the position of the character, not on the window, so replays
+ * simulate the same enemies in every step.
+ */
+public class SimulationLod {
+    public static final int CHUNK_SIZE = 16; // width and height of a chunk in tiles
+    public static final int NEAR_RANGE = 2; // chunks simulated in every step, at least 32 tiles, more than half of a 4K screen
+    public static final int FAR_RANGE = 4; // chunks simulated at all, the enemies in the chunks further away sleep
+    public static final int MID_INTERVAL = 4; // steps between two movements of an enemy between NEAR_RANGE and FAR_RANGE
+
+    private final int chunkColumns; // number of chunks along the x-axis
+    private final int chunkRows; // number of chunks along the y-axis
+    private final IntMap<Array<Enemy>> chunkEnemies = new IntMap<>(); // chunk (chunkY * chunkColumns + chunkX) -> enemies in it
+
+    // Enemies moving in the current step, stored in parallel arrays
+    private Enemy[] active = new Enemy[64];
+    private int[] activeSteps = new int[64]; // number of steps the enemy moves for at once
+    private int activeCount;
+
+    private int step; // number of updates
+    private int characterChunkX;
+    private int characterChunkY;
+
+    /**
+     * Constructor for SimulationLod. Puts every enemy into the bucket of its chunk.
+     *
+     * @param columns number of tiles along the x-axis of the maze.
+     * @param rows    number of tiles along the y-axis of the maze.
+     * @param enemies all enemies of the maze.
+     */
+    public SimulationLod(int columns, int rows, List<Enemy> enemies) {
+        chunkColumns = (columns + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunkRows = (rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        for (Enemy enemy : enemies) {
+            int chunk = chunkOf(enemy);
+            enemy.setChunk(chunk);
+            bucket(chunk).add(enemy);
+        }
+    }
+
+    /**
+     * Chooses the enemies moving in the next step around the character at x,y, and saves
+     * the start of the step (DynamicCoordinate.saveStepStart()) for every enemy awake.
+     * The result is read with getActiveCount(), getActive() and getActiveSteps().
+     *
+     * @param x x-coordinate of the character
+     * @param y y-coordinate of the character
+     */
+    public void update(float x, float y) {
+        step++;
+        activeCount = 0;
+        characterChunkX = chunkCoordinate(x, chunkColumns);
+        characterChunkY = chunkCoordinate(y, chunkRows);
+
+        int minChunkX = Math.max(characterChunkX - FAR_RANGE, 0);
+        int maxChunkX = Math.min(characterChunkX + FAR_RANGE, chunkColumns - 1);
+        int minChunkY = Math.max(characterChunkY - FAR_RANGE, 0);
+        int maxChunkY = Math.min(characterChunkY + FAR_RANGE, chunkRows - 1);
+        for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                Array<Enemy> enemies = chunkEnemies.get(chunkY * chunkColumns + chunkX);
+                if (enemies == null) {
+                    continue;
+                }
+                int steps = 0; // 0 if the enemies of the chunk do not move in this step
+                if (Math.abs(chunkX - characterChunkX) <= NEAR_RANGE && Math.abs(chunkY - characterChunkY) <= NEAR_RANGE) {
+                    steps = 1;
+                } else if (Math.floorMod(step + chunkX + 2 * chunkY, MID_INTERVAL) == 0) {
+                    // The chunks take turns, so about the same number of them moves in every step
+                    steps = MID_INTERVAL;
+                }
+                for (int i = 0; i < enemies.size; i++) {
+                    Enemy enemy = enemies.get(i);
+                    // Also the enemies waiting for their turn or waking up, so none is drawn moving from an old position
+                    enemy.saveStepStart();
+                    if (steps > 0) {
+                        addActive(enemy, steps);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the active enemies which entered another chunk into its bucket.
+     * Must be called after the active enemies moved.
+     */
+    public void relocateActive() {
+        for (int i = 0; i < activeCount; i++) {
+            Enemy enemy = active[i];
+            int chunk = chunkOf(enemy);
+            if (chunk != enemy.getChunk()) {
+                chunkEnemies.get(enemy.getChunk()).removeValue(enemy, true);
+                bucket(chunk).add(enemy);
+                enemy.setChunk(chunk);
+            }
+        }
+    }
+
+    /**
+     * Checks whether an enemy is close enough to the character to be simulated at all.
+     *
+     * @param enemy the enemy.
+     * @return false if the enemy sleeps.
+     */
+    public boolean isAwake(Enemy enemy) {
+        int chunk = enemy.getChunk();
+        return Math.abs(chunk % chunkColumns - characterChunkX) <= FAR_RANGE
+                && Math.abs(chunk / chunkColumns - characterChunkY) <= FAR_RANGE;
+    }
+
+    private void addActive(Enemy enemy, int steps) {
+        if (activeCount == active.length) {
+            active = Arrays.copyOf(active, activeCount * 2);
+            activeSteps = Arrays.copyOf(activeSteps, activeCount * 2);
+        }
+        active[activeCount] = enemy;
+        activeSteps[activeCount] = steps;
+        activeCount++;
+    }
+
+    private Array<Enemy> bucket(int chunk) {
+        Array<Enemy> enemies = chunkEnemies.get(chunk);
+        if (enemies == null) {
+            enemies = new Array<>();
+            chunkEnemies.put(chunk, enemies);
+        }
+        return enemies;
+    }
+
+    private int chunkOf(Enemy enemy) {
+        return chunkCoordinate(enemy.getY(), chunkRows) * chunkColumns + chunkCoordinate(enemy.getX(), chunkColumns);
+    }
+
+    private static int chunkCoordinate(float coordinate, int chunks) {
+        int chunk = Math.floorDiv((int) coordinate, CHUNK_SIZE * WallManager.TILE_SIZE);
+        return Math.min(Math.max(chunk, 0), chunks - 1);
+    }
+
+
+    /**
+     * Returns the enemies in a chunk, e.g. to draw only the enemies around the camera.
+     *
+     * @param chunkX x-coordinate of the chunk.
+     * @param chunkY y-coordinate of the chunk.
+     * @return the enemies, null if there never was an enemy in the chunk.
+     */
+    public Array<Enemy> getEnemies(int chunkX, int chunkY) {
+        return chunkEnemies.get(chunkY * chunkColumns + chunkX);
+    }
+
+    public int getChunkColumns() {
+        return chunkColumns;
+    }
+
+    public int getChunkRows() {
+        return chunkRows;
+    }
+
+    // getters for the enemies moving in the current step
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    public Enemy getActive(int index) {
+        return active[index];
+    }
+
+    public int getActiveSteps(int index) {
+        return activeSteps[index];
+    }
+}
@@ -0,0 +1,44 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * SpriteComponent holds how an entity looks: an animation, or a single texture while
+ * there is no animation, and the size it is drawn with.
+ */
+public class SpriteComponent implements Component {
+    public static final ComponentMapper<SpriteComponent> MAPPER = ComponentMapper.getFor(SpriteComponent.class);
+
+    public Animation<TextureRegion> animation; // null to draw the region
+    public TextureRegion region;
+    public final float width;
+    public final float height;
+
+    /**
+     * Constructor for SpriteComponent.
+     *
+     * @param animation the animation, null for a single texture.
+     * @param region    the texture drawn without animation.
+     * @param width     the drawn width in pixels.
+     * @param height    the drawn height in pixels.
+     */
+    public SpriteComponent(Animation<TextureRegion> animation, TextureRegion region, float width, float height) {
+        this.animation = animation;
+        this.region = region;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Returns the texture to be drawn.
+     *
+     * @param animationTime time used to select the animation frame.
+     * @return the current animation frame, or the region without animation.
+     */
+    public TextureRegion getFrame(float animationTime) {
+        return animation != null ? animation.getKeyFrame(animationTime, true) : region;
+    }
+}
@@ -0,0 +1,43 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+/**
+ * SpriteRenderSystem draws one layer of entities, e.g. all traps, if they are visible
+ * to the camera. The entities of the layer are chosen by a family, and the time of
+ * the layer is measured as a phase of the FrameProfiler.
+ */
+public class SpriteRenderSystem extends IteratingSystem {
+    private final FrameProfiler.Phase phase;
+    private final RenderContext context;
+
+    /**
+     * Constructor for SpriteRenderSystem.
+     *
+     * @param family   the entities of the layer, they need a PositionComponent and a SpriteComponent.
+     * @param phase    the measured phase of the layer.
+     * @param priority order of the system in the engine, lower is drawn first.
+     * @param context  the shared values of the frame.
+     */
+    public SpriteRenderSystem(Family family, FrameProfiler.Phase phase, int priority, RenderContext context) {
+        super(family, priority);
+        this.phase = phase;
+        this.context = context;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        context.getProfiler().start(phase);
+        super.update(deltaTime);
+        context.getProfiler().stop(phase);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        PositionComponent position = PositionComponent.MAPPER.get(entity);
+        SpriteComponent sprite = SpriteComponent.MAPPER.get(entity);
+        context.drawIfVisible(sprite.getFrame(context.getAnimationTime()), position.x, position.y, sprite.width, sprite.height);
+    }
+}
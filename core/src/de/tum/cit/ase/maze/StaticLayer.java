@@ -0,0 +1,262 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntIntMap;
+
+import java.util.Arrays;
+
+/**
+ * StaticLayer class holds the walls, roads and exits of the maze as pre-built geometry.
+ * They never change after the maze is loaded, so instead of submitting them to the
+ * SpriteBatch on every frame, they are added to SpriteCaches, split into chunks of
+ * CHUNK_SIZE x CHUNK_SIZE tiles. Only the chunks around the camera are built, when
+ * they are first needed, into a number of slots. Once all slots are in use, the chunk
+ * not needed for the longest time is replaced, so the memory of the geometry depends on
+ * the size of the screen and not on the size of the maze. If the visible chunks need
+ * more slots than there are, e.g. after the window was enlarged, another SpriteCache of
+ * slots is added.
+ */
+public class StaticLayer implements Disposable {
+    public static final int CHUNK_SIZE = 16; // width and height of a chunk in tiles
+    private static final int CHUNK_TILES = CHUNK_SIZE * CHUNK_SIZE;
+
+    // A SpriteCache using indices holds at most 8191 sprites, so each one holds several slots.
+    // The last cache of a SpriteCache cannot be built again, so it stays empty as an end marker.
+    private static final int SLOTS_PER_CACHE = 8191 / CHUNK_TILES - 1;
+    private static final int INITIAL_CACHES = 2; // enough slots for the chunks of a 4K screen
+    private static final int PREFETCH_MARGIN = 1; // chunks around the visible area built before they become visible
+    private static final int FREE = -1;
+
+    private final TileIndex tileIndex; // static game element of every tile, read when a chunk is built
+    private final Road road; // holds the road texture
+    private final Exit exit; // holds the exit texture
+    private final WallManager wallManager; // holds the wall textures
+    private final int chunkColumns; // number of chunks along the x-axis
+    private final int chunkRows; // number of chunks along the y-axis
+
+    private final IntIntMap chunkSlots = new IntIntMap(INITIAL_CACHES * SLOTS_PER_CACHE); // chunk (chunkY * chunkColumns + chunkX) -> slot
+
+    // Slots, stored in parallel arrays, SLOTS_PER_CACHE of them in every SpriteCache
+    private SpriteCache[] caches = new SpriteCache[0];
+    private int[] slotCacheIds = new int[0]; // id of every slot within its SpriteCache
+    private int[] slotChunks = new int[0]; // chunk built into every slot, FREE if none
+    private int[] slotSprites = new int[0]; // number of sprites in every slot
+    private int[] slotLastUsed = new int[0]; // last frame in which every slot was needed
+    private int slotCount;
+    private int frame; // number of drawn frames
+    private boolean disposed;
+
+    /**
+     * Constructor for StaticLayer. Reserves the space of the first slots in the SpriteCaches,
+     * the chunks are built when they are drawn.
+     *
+     * @param tileIndex   static game element of every tile.
+     * @param road        holds the road texture.
+     * @param exit        holds the exit texture.
+     * @param wallManager holds the wall textures.
+     */
+    public StaticLayer(TileIndex tileIndex, Road road, Exit exit, WallManager wallManager) {
+        this.tileIndex = tileIndex;
+        this.road = road;
+        this.exit = exit;
+        this.wallManager = wallManager;
+        chunkColumns = (tileIndex.getColumns() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunkRows = (tileIndex.getRows() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        for (int i = 0; i < INITIAL_CACHES; i++) {
+            addCache();
+        }
+    }
+
+    /**
+     * Adds a SpriteCache with SLOTS_PER_CACHE free slots.
+     */
+    private void addCache() {
+        int cacheIndex = caches.length;
+        caches = Arrays.copyOf(caches, cacheIndex + 1);
+        slotCacheIds = Arrays.copyOf(slotCacheIds, slotCount + SLOTS_PER_CACHE);
+        slotChunks = Arrays.copyOf(slotChunks, slotCount + SLOTS_PER_CACHE);
+        slotSprites = Arrays.copyOf(slotSprites, slotCount + SLOTS_PER_CACHE);
+        slotLastUsed = Arrays.copyOf(slotLastUsed, slotCount + SLOTS_PER_CACHE);
+        Arrays.fill(slotChunks, slotCount, slotCount + SLOTS_PER_CACHE, FREE);
+
+        // A cache can only be built again with at most as many sprites as it was created with,
+        // so every slot is created with a full chunk of placeholders.
+        TextureRegion placeholder = road.getTextureRegion();
+        SpriteCache cache = new SpriteCache((SLOTS_PER_CACHE + 1) * CHUNK_TILES, true);
+        for (int slot = slotCount; slot < slotCount + SLOTS_PER_CACHE; slot++) {
+            cache.beginCache();
+            for (int tile = 0; tile < CHUNK_TILES; tile++) {
+                cache.add(placeholder, 0, 0, 0, 0);
+            }
+            slotCacheIds[slot] = cache.endCache();
+        }
+        cache.beginCache();
+        cache.endCache(); // end marker
+        caches[cacheIndex] = cache;
+        slotCount += SLOTS_PER_CACHE;
+    }
+
+    /**
+     * Draws all chunks which overlap the given area, after building the ones which are
+     * missing. The chunks next to the area are built as well, so they are ready when the
+     * camera moves there. Must not be called between SpriteBatch.begin() and SpriteBatch.end().
+     *
+     * @param camera the camera whose projection is used.
+     * @param left   left edge of the visible area.
+     * @param right  right edge of the visible area.
+     * @param bottom bottom edge of the visible area.
+     * @param top    top edge of the visible area.
+     * @return the number of sprites drawn.
+     */
+    public int draw(OrthographicCamera camera, float left, float right, float bottom, float top) {
+        if (disposed) {
+            return 0;
+        }
+        frame++;
+        int chunkSizePixels = CHUNK_SIZE * 64;
+        int minChunkX = Math.max(MathUtils.floor(left / chunkSizePixels), 0);
+        int maxChunkX = Math.min(MathUtils.floor(right / chunkSizePixels), chunkColumns - 1);
+        int minChunkY = Math.max(MathUtils.floor(bottom / chunkSizePixels), 0);
+        int maxChunkY = Math.min(MathUtils.floor(top / chunkSizePixels), chunkRows - 1);
+
+        // The visible chunks first, so building the ones around them never replaces a visible one.
+        for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                acquire(chunkX, chunkY, true);
+            }
+        }
+        for (int chunkY = minChunkY - PREFETCH_MARGIN; chunkY <= maxChunkY + PREFETCH_MARGIN; chunkY++) {
+            for (int chunkX = minChunkX - PREFETCH_MARGIN; chunkX <= maxChunkX + PREFETCH_MARGIN; chunkX++) {
+                if (chunkX >= 0 && chunkX < chunkColumns && chunkY >= 0 && chunkY < chunkRows) {
+                    acquire(chunkX, chunkY, false);
+                }
+            }
+        }
+
+        int drawnSprites = 0;
+        SpriteCache activeCache = null;
+        for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                int slot = chunkSlots.get(chunkY * chunkColumns + chunkX, FREE);
+                if (slotSprites[slot] == 0) {
+                    continue;
+                }
+
+                // Switch the cache only when the chunk is stored in a different one.
+                SpriteCache cache = caches[slot / SLOTS_PER_CACHE];
+                if (cache != activeCache) {
+                    if (activeCache != null) {
+                        activeCache.end();
+                    }
+                    cache.setProjectionMatrix(camera.combined);
+                    cache.begin();
+                    activeCache = cache;
+                }
+                cache.draw(slotCacheIds[slot]);
+                drawnSprites += slotSprites[slot];
+            }
+        }
+        if (activeCache != null) {
+            activeCache.end();
+        }
+        return drawnSprites;
+    }
+
+    /**
+     * Marks a chunk as needed in the current frame and builds it if it has no slot yet.
+     * The slot not needed for the longest time is used for it. If all slots are needed in
+     * the current frame already, a visible chunk gets a new slot, a prefetched one is skipped.
+     *
+     * @param chunkX  x-coordinate of the chunk.
+     * @param chunkY  y-coordinate of the chunk.
+     * @param visible whether the chunk is drawn in the current frame.
+     */
+    private void acquire(int chunkX, int chunkY, boolean visible) {
+        int chunk = chunkY * chunkColumns + chunkX;
+        int slot = chunkSlots.get(chunk, FREE);
+        if (slot == FREE) {
+            slot = 0;
+            for (int i = 1; i < slotCount; i++) {
+                if (slotLastUsed[i] < slotLastUsed[slot]) {
+                    slot = i;
+                }
+            }
+            if (slotLastUsed[slot] == frame) {
+                // Every slot holds a chunk of this frame
+                if (!visible) {
+                    return;
+                }
+                slot = slotCount;
+                addCache();
+            }
+            if (slotChunks[slot] != FREE) {
+                chunkSlots.remove(slotChunks[slot], FREE);
+            }
+            build(slot, chunkX, chunkY);
+            slotChunks[slot] = chunk;
+            chunkSlots.put(chunk, slot);
+        }
+        slotLastUsed[slot] = frame;
+    }
+
+    /**
+     * Adds the static game element of every tile of a chunk to the given slot.
+     *
+     * @param slot   the slot, its previous chunk is replaced.
+     * @param chunkX x-coordinate of the chunk.
+     * @param chunkY y-coordinate of the chunk.
+     */
+    private void build(int slot, int chunkX, int chunkY) {
+        SpriteCache cache = caches[slot / SLOTS_PER_CACHE];
+        int startX = chunkX * CHUNK_SIZE;
+        int startY = chunkY * CHUNK_SIZE;
+        int sprites = 0;
+        cache.beginCache(slotCacheIds[slot]);
+        for (int tileY = startY; tileY < startY + CHUNK_SIZE; tileY++) {
+            for (int tileX = startX; tileX < startX + CHUNK_SIZE; tileX++) {
+                TextureRegion textureRegion = textureRegion(tileIndex.get(tileX, tileY));
+                if (textureRegion != null) {
+                    cache.add(textureRegion, tileX * 64, tileY * 64, 64, 64);
+                    sprites++;
+                }
+            }
+        }
+        cache.endCache();
+        slotSprites[slot] = sprites;
+    }
+
+    /**
+     * Returns the texture of a static game element.
+     *
+     * @param tile the tile value from the TileIndex.
+     * @return the texture, null for NONE.
+     */
+    private TextureRegion textureRegion(byte tile) {
+        if (tile == TileIndex.NONE) {
+            return null;
+        } else if (tile == TileIndex.ROAD) {
+            return road.getTextureRegion();
+        } else if (tile == TileIndex.EXIT) {
+            return exit.getTextureRegion();
+        }
+        return wallManager.getTextureRegion(TileIndex.wallType(tile));
+    }
+
+    /**
+     * Disposes all SpriteCaches. Drawing a disposed StaticLayer does nothing.
+     */
+    @Override
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        for (SpriteCache cache : caches) {
+            cache.dispose();
+        }
+        disposed = true;
+    }
+}
@@ -0,0 +1,116 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The TextureRegistry hands out all world texture regions of the game. Every sprite sheet
+ * (basictiles, character, mobs, objects, things and key) is packed into one texture atlas,
+ * so all walls, roads, items and animations share a single texture and the batch does not
+ * have to switch textures between them. Regions are cached, so asking for the same region
+ * twice returns the same object.
+ * The atlas is regenerated with the packTextures gradle task. Usually it is loaded by the
+ * AssetCache of MazeRunnerGame and handed over with setAtlas().
+ */
+public final class TextureRegistry {
+
+    public static final String ATLAS_PATH = "atlas/world.atlas"; // location of the packed atlas in the assets folder
+
+    private static TextureAtlas atlas; // loaded on first use, so the model can also run without graphics
+    private static boolean ownsAtlas; // whether the atlas was loaded here and has to be disposed here
+    private static final Map<String, TextureRegion> regions = new HashMap<>(); // cache of the already created regions
+
+    private TextureRegistry() {
+    }
+
+    /**
+     * Returns the region at x,y with the given size inside one of the packed sprite sheets.
+     *
+     * @param sheet  name of the sprite sheet, which is the file name without ".png"
+     * @param x      x-coordinate of the region inside the original sprite sheet
+     * @param y      y-coordinate of the region inside the original sprite sheet
+     * @param width  width of the region
+     * @param height height of the region
+     * @return the cached TextureRegion pointing into the shared atlas texture.
+     */
+    public static TextureRegion getRegion(String sheet, int x, int y, int width, int height) {
+        String key = sheet + ':' + x + ':' + y + ':' + width + ':' + height;
+        TextureRegion region = regions.get(key);
+        if (region == null) {
+            region = new TextureRegion(getSheet(sheet), x, y, width, height);
+            regions.put(key, region);
+        }
+        return region;
+    }
+
+    /**
+     * Creates an animation out of the frames in one row of a packed sprite sheet.
+     *
+     * @param sheet       name of the sprite sheet, which is the file name without ".png"
+     * @param startIndex  first texture column containing the required textureRegions in the sheet
+     * @param endIndex    column after the last texture column containing the required textureRegions
+     * @param frameWidth  the width of each texture region in the sheet
+     * @param frameHeight the height of each texture region in the sheet
+     * @param row         texture row number containing the required textureRegions in the sheet
+     * @return Animation<TextureRegion> with frame duration of 0.1f.
+     */
+    public static Animation<TextureRegion> getAnimation(String sheet, int startIndex, int endIndex,
+                                                        int frameWidth, int frameHeight, int row) {
+        // libGDX internal Array instead of ArrayList because of performance
+        Array<TextureRegion> frames = new Array<>(TextureRegion.class);
+        for (int col = startIndex; col < endIndex; col++) {
+            frames.add(getRegion(sheet, col * frameWidth, row * frameHeight, frameWidth, frameHeight));
+        }
+        return new Animation<>(0.1f, frames);
+    }
+
+    /**
+     * Uses an atlas loaded somewhere else, e.g. by the AssetCache, which stays responsible for disposing it.
+     *
+     * @param loadedAtlas the loaded world atlas.
+     */
+    public static void setAtlas(TextureAtlas loadedAtlas) {
+        if (atlas == loadedAtlas) {
+            return;
+        }
+        dispose();
+        atlas = loadedAtlas;
+    }
+
+    /**
+     * Disposes the shared atlas texture, if it was loaded by the TextureRegistry itself.
+     * Regions handed out before must not be drawn anymore.
+     */
+    public static void dispose() {
+        if (atlas != null && ownsAtlas) {
+            atlas.dispose();
+        }
+        atlas = null;
+        ownsAtlas = false;
+        regions.clear();
+    }
+
+    /**
+     * Looks up the packed sprite sheet in the atlas, loading the atlas if needed.
+     *
+     * @param sheet name of the sprite sheet
+     * @return the region covering the whole sprite sheet.
+     */
+    private static TextureRegion getSheet(String sheet) {
+        if (atlas == null) {
+            atlas = new TextureAtlas(Gdx.files.internal(ATLAS_PATH));
+            ownsAtlas = true;
+        }
+        TextureRegion region = atlas.findRegion(sheet);
+        if (region == null) {
+            throw new IllegalArgumentException("Sprite sheet " + sheet + " is not part of " + ATLAS_PATH);
+        }
+        return region;
+    }
+}
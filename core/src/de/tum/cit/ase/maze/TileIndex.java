@@ -0,0 +1,95 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * TileIndex class stores which static game element (road, exit or wall) is drawn on
+ * each tile of the maze, one byte per tile. It lets the rendering look up only the
+ * tiles visible to the camera instead of going through all game element lists.
+ */
+public class TileIndex {
+    public static final byte NONE = 0; // nothing static on the tile (e.g. the entry point)
+    public static final byte ROAD = 1;
+    public static final byte EXIT = 2;
+    private static final byte FIRST_WALL = 3; // walls are stored as FIRST_WALL + WallType ordinal
+    private static final WallType[] WALL_TYPES = WallType.values(); // values() copies the array on every call
+
+    private final int columns; // number of tiles along the x-axis
+    private final int rows; // number of tiles along the y-axis
+    private final byte[] tiles; // tile values, index = tileY * columns + tileX
+    private int tileCount; // number of tiles which are not NONE
+
+    /**
+     * Constructor for TileIndex. Creates an index with all tiles set to NONE.
+     *
+     * @param columns number of tiles along the x-axis.
+     * @param rows    number of tiles along the y-axis.
+     */
+    public TileIndex(int columns, int rows) {
+        this.columns = columns;
+        this.rows = rows;
+        tiles = new byte[columns * rows];
+    }
+
+    /**
+     * Converts a wall type into the tile value stored in the index.
+     *
+     * @param wallType the type of the wall.
+     * @return the tile value of the wall type.
+     */
+    public static byte wallTile(WallType wallType) {
+        return (byte) (FIRST_WALL + wallType.ordinal());
+    }
+
+    /**
+     * Converts a tile value back into a wall type.
+     *
+     * @param tile the tile value.
+     * @return the wall type, null if the tile is not a wall.
+     */
+    public static WallType wallType(byte tile) {
+        return tile >= FIRST_WALL ? WALL_TYPES[tile - FIRST_WALL] : null;
+    }
+
+    /**
+     * Sets the static game element of the given tile.
+     *
+     * @param tileX x-coordinate of the tile (not the pixel coordinate).
+     * @param tileY y-coordinate of the tile (not the pixel coordinate).
+     * @param tile  one of ROAD, EXIT or a value returned by wallTile().
+     */
+    public void set(int tileX, int tileY, byte tile) {
+        int index = tileY * columns + tileX;
+        if (tiles[index] == NONE && tile != NONE) {
+            tileCount++;
+        } else if (tiles[index] != NONE && tile == NONE) {
+            tileCount--;
+        }
+        tiles[index] = tile;
+    }
+
+    /**
+     * Returns the static game element of the given tile.
+     *
+     * @param tileX x-coordinate of the tile (not the pixel coordinate).
+     * @param tileY y-coordinate of the tile (not the pixel coordinate).
+     * @return the tile value, NONE if the tile is outside the maze.
+     */
+    public byte get(int tileX, int tileY) {
+        if (tileX < 0 || tileX >= columns || tileY < 0 || tileY >= rows) {
+            return NONE;
+        }
+        return tiles[tileY * columns + tileX];
+    }
+
+    // getters for the attributes
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getTileCount() {
+        return tileCount;
+    }
+}
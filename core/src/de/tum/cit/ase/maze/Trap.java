@@ -1,14 +1,7 @@
 package de.tum.cit.ase.maze;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.utils.Array;
-
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Trap class is responsible for holding all the stationary traps in the game and their animation.
@@ -17,57 +10,53 @@
  */
 public class Trap implements Add<Number>, DisposeTextureRegion {
 
-    private final Animation<TextureRegion> animation; // since traps can be animated
-    private final List<Coordinate<Number>> traps; // list of all traps in the game
+    private Animation<TextureRegion> animation; // since traps can be animated, loaded on first use
+    private final CoordinateArray traps; // list of all traps in the game
 
     /**
-     * Constructor of Trap class. Initializes the list traps. Also, creates an animation
-     * using an Array of required textureRegions from the .png file and then assigns it
-     * to the animation attribute.
+     * Constructor of Trap class. Initializes the list traps. The animation is
+     * loaded when it is first requested.
      */
     public Trap() {
-
-        traps = new ArrayList<>();
-
-        Texture walkSheet = new Texture(Gdx.files.internal("objects.png"));
-
-        Array<TextureRegion> walkFrames = new Array<>(TextureRegion.class);
-        for (int col = 4; col < 10; col++) {
-            walkFrames.add(new TextureRegion(walkSheet, col * 16, 3 * 16, 16, 16));
-        }
-
-        animation = new Animation<>(0.1f, walkFrames);
+        traps = new CoordinateArray();
     }
 
 
     /**
-     * Creates and adds a Coordinate type object to the traps list
+     * Adds the coordinates of a new element to traps
      *
-     * @param x sets the x-coordinate of the newly created Coordinate type object.
-     * @param y sets the y-coordinate of the newly created Coordinate type object.
+     * @param x x-coordinate of the new element.
+     * @param y y-coordinate of the new element.
      */
     @Override
-    public void add(Number x, Number y) {
-        traps.add(new Coordinate<>(x, y));
+    public void add(float x, float y) {
+        traps.add(x, y);
     }
 
     /**
-     * Disposes the trap animation textures
+     * Releases the trap animation. The texture is shared and disposed by TextureRegistry.
      */
     @Override
     public void disposeTx() {
-        for (TextureRegion frame : animation.getKeyFrames()) {
-            frame.getTexture().dispose();
-        }
+        animation = null;
     }
 
 
     // getters for the attributes
+    /**
+     * Returns the trap animation. On first use, creates the animation out of
+     * the trap frames in the shared texture atlas.
+     *
+     * @return the trap animation.
+     */
     public Animation<TextureRegion> getAnimation() {
+        if (animation == null) {
+            animation = TextureRegistry.getAnimation("objects", 4, 10, 16, 16, 3);
+        }
         return animation;
     }
 
-    public List<Coordinate<Number>> getTraps() {
+    public CoordinateArray getTraps() {
         return traps;
     }
 }
@@ -0,0 +1,10 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * TrapComponent marks the entity of a trap, so it is drawn in the trap layer.
+ * It carries no rules: the MazeModel takes the lives of the character on contact.
+ */
+public class TrapComponent implements Component {
+}
@@ -1,129 +1,181 @@
 package de.tum.cit.ase.maze;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Rectangle;
-
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * WallManager class is responsible for holding different type of walls and
  * their textures. It implements DisposeTextureRegion enabling disposal of all
  * wall textures when required.
+ * Every wall is marked in a tile grid, so collision queries only have to look
+ * at the tiles under the moving entity instead of scanning all walls. Only the
+ * number of walls of every type is kept besides, the rendering reads the wall
+ * types from the TileIndex.
  */
 public class WallManager implements DisposeTextureRegion {
-    private final List<Coordinate<Number>> perspectiveWalls; // list of walls with sideView Texture
-    private final List<Coordinate<Number>> regularWalls; //list of walls with topView texture
-    private final List<Coordinate<Number>> middleWalls; // list of walls surrounded by other walls on all sides
+    public static final int TILE_SIZE = 64; // width and height of a single maze tile in the game
+
+    private final int[] wallCounts = new int[WallType.values().length]; // number of walls of every type
+
+    private final int columns; // number of tiles along the x-axis covered by the wall grid
+    private final int rows; // number of tiles along the y-axis covered by the wall grid
+    private final long[] wallTiles; // packed bitset, one bit per tile (index = tileY * columns + tileX)
 
-    private final TextureRegion perspectiveTr;
-    private final TextureRegion regularTr;
-    private final TextureRegion middleTr;
+    // wall textures, loaded on first use, so walls can also be created without graphics
+    private TextureRegion perspectiveTr;
+    private TextureRegion regularTr;
+    private TextureRegion middleTr;
+    private TextureRegion verticalTr;
+    private TextureRegion horizontalTr;
 
     /**
-     * Constructor for WallManager. Initializes all lists and assigns the correct textureRegions.
+     * Constructor for WallManager. Initializes the wall grid. The textureRegions
+     * are loaded when they are first requested.
+     *
+     * @param columns number of tiles along the x-axis of the maze.
+     * @param rows    number of tiles along the y-axis of the maze.
      */
-    public WallManager() {
-        perspectiveWalls = new ArrayList<>();
-        regularWalls = new ArrayList<>();
-        middleWalls = new ArrayList<>();
-
-        perspectiveTr = new TextureRegion(new Texture(Gdx.files.internal("basictiles.png")), 32, 0, 16, 16);
-        regularTr = new TextureRegion(new Texture(Gdx.files.internal("basictiles.png")), 16, 0, 16, 16);
-        middleTr = new TextureRegion(new Texture(Gdx.files.internal("basictiles.png")), 32, 9 * 16, 16, 16);
+    public WallManager(int columns, int rows) {
+        this.columns = columns;
+        this.rows = rows;
+        wallTiles = new long[(columns * rows + 63) >>> 6];
     }
 
     /**
-     * Creates and adds a Coordinate type object to one of the wall lists depending upon value of @param wallType
+     * Marks the tile of a wall in the wall grid and counts it for the given @param wallType
      *
-     * @param x        sets the x-coordinate of the newly created Coordinate type object.
-     * @param y        sets the y-coordinate of the newly created Coordinate type object.
-     * @param wallType determines which wall list the Coordinate object will be added to.
+     * @param x        x-coordinate of the new wall.
+     * @param y        y-coordinate of the new wall.
+     * @param wallType determines which wall count is increased.
      */
-    public void addWall(Number x, Number y, WallType wallType) {
-        switch (wallType) {
-            case REGULAR -> regularWalls.add(new Coordinate<>(x, y));
-            case PERSPECTIVE -> perspectiveWalls.add(new Coordinate<>(x, y));
-            case MIDDLE -> middleWalls.add(new Coordinate<>(x, y));
-            default -> throw new IllegalArgumentException("Invalid wallType: " + wallType);
+    public void addWall(float x, float y, WallType wallType) {
+        int tileX = Math.floorDiv((int) x, TILE_SIZE);
+        int tileY = Math.floorDiv((int) y, TILE_SIZE);
+        if (tileX < 0 || tileX >= columns || tileY < 0 || tileY >= rows) {
+            throw new IllegalArgumentException("Wall outside of the maze: " + x + "," + y);
         }
+        int index = tileY * columns + tileX;
+        wallTiles[index >>> 6] |= 1L << index;
+
+        wallCounts[wallType.ordinal()]++;
     }
 
 
     // getters for different attributes
-    public List<Coordinate<Number>> getPerspectiveWalls() {
-        return perspectiveWalls;
+    public int getWallCount(WallType wallType) {
+        return wallCounts[wallType.ordinal()];
     }
 
-    public List<Coordinate<Number>> getRegularWalls() {
-        return regularWalls;
+    public int getColumns() {
+        return columns;
     }
 
-    public List<Coordinate<Number>> getMiddleWalls() {
-        return middleWalls;
+    public int getRows() {
+        return rows;
     }
 
     public TextureRegion getPerspectiveTr() {
+        if (perspectiveTr == null) {
+            perspectiveTr = TextureRegistry.getRegion("basictiles", 32, 0, 16, 16);
+        }
         return perspectiveTr;
     }
 
     public TextureRegion getRegularTr() {
+        if (regularTr == null) {
+            regularTr = TextureRegistry.getRegion("basictiles", 16, 0, 16, 16);
+        }
         return regularTr;
     }
 
+    /**
+     * Returns the texture of the given wall type.
+     *
+     * @param wallType the type of the wall.
+     * @return the textureRegion used to draw walls of this type.
+     */
+    public TextureRegion getTextureRegion(WallType wallType) {
+        return switch (wallType) {
+            case REGULAR -> getRegularTr();
+            case PERSPECTIVE -> getPerspectiveTr();
+            case MIDDLE -> getMiddleTr();
+            case VERTICAL -> getVerticalTr();
+            case HORIZONTAL -> getHorizontalTr();
+        };
+    }
+
     public TextureRegion getMiddleTr() {
+        if (middleTr == null) {
+            middleTr = TextureRegistry.getRegion("basictiles", 32, 9 * 16, 16, 16);
+        }
         return middleTr;
     }
 
+    public TextureRegion getVerticalTr() {
+        if (verticalTr == null) {
+            verticalTr = TextureRegistry.getRegion("basictiles", 0, 10 * 16, 16, 16);
+        }
+        return verticalTr;
+    }
+
+    public TextureRegion getHorizontalTr() {
+        if (horizontalTr == null) {
+            horizontalTr = TextureRegistry.getRegion("basictiles", 16, 10 * 16, 16, 16);
+        }
+        return horizontalTr;
+    }
+
 
     /**
-     * Disposes all the wall textures
+     * Releases all the wall textures. The texture is shared and disposed by TextureRegistry.
      */
     @Override
     public void disposeTx() {
-        perspectiveTr.getTexture().dispose();
-        regularTr.getTexture().dispose();
-        middleTr.getTexture().dispose();
+        perspectiveTr = null;
+        regularTr = null;
+        middleTr = null;
+        verticalTr = null;
+        horizontalTr = null;
+    }
+
+    /**
+     * Checks whether the tile at the given tile coordinates holds a wall.
+     *
+     * @param tileX x-coordinate of the tile (not the pixel coordinate).
+     * @param tileY y-coordinate of the tile (not the pixel coordinate).
+     * @return true if there is a wall on the tile, false if there is none or the tile is outside the maze.
+     */
+    public boolean isWallTile(int tileX, int tileY) {
+        if (tileX < 0 || tileX >= columns || tileY < 0 || tileY >= rows) {
+            return false;
+        }
+        int index = tileY * columns + tileX;
+        return (wallTiles[index >>> 6] & (1L << index)) != 0;
     }
 
     /**
-     * Used to detect collision of any moving entity (Enemy/Character) with any of the maze walls using Rectangle class
+     * Used to detect collision of any moving entity (Enemy/Character) with any of the maze walls.
+     * Only the tiles covered by the 32x32 wall hitbox of the moving entity are checked, without creating any objects.
      *
      * @param dynamicX x-coordinate of the moving entity (Enemy/Character)
      * @param dynamicY y-coordinate of the moving entity (Enemy/Character)
      * @return true if collision detected else false
      */
     public boolean wallCollision(float dynamicX, float dynamicY) {
-        // rectangle created using moving entity's (Enemy/Character) coordinates
-        Rectangle checkedRectangle = new Rectangle((int) dynamicX + 20, (int) dynamicY + 20, 32, 32);
-
-        for (Coordinate<Number> wall : getRegularWalls()) {
-            //rectangle created using wall's coordinates
-            Rectangle wallRectangle = new Rectangle((int) wall.getX(), (int) wall.getY(), 64, 64);
-
-            //checking for overlap
-            if (wallRectangle.overlaps(checkedRectangle)) {
-                return true;
-            }
-        }
-
-        for (Coordinate<Number> wall : getPerspectiveWalls()) {
-            //rectangle created using wall's coordinates
-            Rectangle wallRectangle = new Rectangle((int) wall.getX(), (int) wall.getY(), 64, 64);
-            //checking for overlap
-            if (wallRectangle.overlaps((checkedRectangle))) {
-                return true;
-            }
-        }
-
-        for (Coordinate<Number> wall : getMiddleWalls()) {
-            //rectangle created using wall's coordinates
-            Rectangle wallRectangle = new Rectangle((int) wall.getX(), (int) wall.getY(), 64, 64);
-            //checking for overlap
-            if (wallRectangle.overlaps((checkedRectangle))) {
-                return true;
+        // wall hitbox of the moving entity (Enemy/Character)
+        int left = (int) dynamicX + Hitbox.WALL_OFFSET;
+        int bottom = (int) dynamicY + Hitbox.WALL_OFFSET;
+
+        // tiles which overlap the hitbox (walls are 64x64 and only touching edges do not count as overlap)
+        int minTileX = Math.floorDiv(left, TILE_SIZE);
+        int maxTileX = Math.floorDiv(left + Hitbox.WALL_SIZE - 1, TILE_SIZE);
+        int minTileY = Math.floorDiv(bottom, TILE_SIZE);
+        int maxTileY = Math.floorDiv(bottom + Hitbox.WALL_SIZE - 1, TILE_SIZE);
+
+        for (int tileY = minTileY; tileY <= maxTileY; tileY++) {
+            for (int tileX = minTileX; tileX <= maxTileX; tileX++) {
+                if (isWallTile(tileX, tileY)) {
+                    return true;
+                }
             }
         }
         return false;
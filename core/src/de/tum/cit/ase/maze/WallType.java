@@ -1,10 +1,47 @@
 package de.tum.cit.ase.maze;
 
 /**
- * enum holds the different Wall Types.
+ * enum holds the different Wall Types. The type of a wall is chosen from the walls
+ * next to it, given as a bitmask of the neighbour bits UP, RIGHT, DOWN and LEFT.
  */
 public enum WallType {
     REGULAR, // Top-view walls
     PERSPECTIVE, // Side-view walls
-    MIDDLE // Walls surrounded by other walls on all sides
+    MIDDLE, // Walls surrounded by other walls on all sides
+    VERTICAL, // Top-view walls of a one tile wide wall, without walls on the left or right
+    HORIZONTAL; // Side-view walls of a one tile high wall, without walls above or below
+
+    // Neighbour bits, set if the tile next to the wall in that direction holds a wall too
+    public static final int UP = 1;
+    public static final int RIGHT = 2;
+    public static final int DOWN = 4;
+    public static final int LEFT = 8;
+    public static final int ALL = UP | RIGHT | DOWN | LEFT;
+
+    private static final int FACE_VISIBLE = 16; // The side of the wall can be seen from below
+    private static final WallType[] BY_NEIGHBOURS = new WallType[32]; // index = neighbours | FACE_VISIBLE
+
+    static {
+        for (int neighbours = 0; neighbours <= ALL; neighbours++) {
+            boolean sideWalls = (neighbours & (LEFT | RIGHT)) != 0;
+            boolean verticalWalls = (neighbours & (UP | DOWN)) != 0;
+            // Below a wall whose face is hidden there is always another wall
+            BY_NEIGHBOURS[neighbours] = neighbours == ALL ? MIDDLE : sideWalls ? REGULAR : VERTICAL;
+            BY_NEIGHBOURS[neighbours | FACE_VISIBLE] = neighbours == ALL ? MIDDLE
+                    : sideWalls && !verticalWalls ? HORIZONTAL : PERSPECTIVE;
+        }
+    }
+
+    /**
+     * Chooses the type of a wall from the walls around it.
+     *
+     * @param neighbours      neighbour bits of the wall.
+     * @param belowNeighbours neighbour bits of the wall below it, -1 if there is no wall below.
+     * @return the type of the wall.
+     */
+    public static WallType fromNeighbours(int neighbours, int belowNeighbours) {
+        // The side of the wall is hidden by a top-view wall in front of it, but not by a middle wall
+        boolean faceVisible = belowNeighbours < 0 || belowNeighbours == ALL;
+        return BY_NEIGHBOURS[faceVisible ? neighbours | FACE_VISIBLE : neighbours];
+    }
 }
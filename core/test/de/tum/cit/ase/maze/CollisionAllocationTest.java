@@ -0,0 +1,149 @@
+package de.tum.cit.ase.maze;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the collision checks of a step create no objects: the character is moved
+ * over the whole maze and at every position touches the stationary elements
+ * (InteractionIndex.query()), the walls (WallManager.wallCollision()) and the enemies
+ * (DynamicCoordinate.detectCollision()), and the enemies look for it (LineOfSight),
+ * while the allocated bytes of the thread are counted.
+ */
+class CollisionAllocationTest {
+    private static final int SIZE = 61; // cells of the maze along each axis
+    private static final int STEP = 16; // pixels between two checked positions of the character
+
+    @Test
+    void collisionChecksDoNotAllocate() {
+        MazeModel model = new MazeModel(maze());
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threads.isThreadAllocatedMemorySupported(), "the JVM does not count allocated bytes");
+
+        // The first rounds grow the result arrays and let the JIT compile the checks
+        for (int round = 0; round < 5; round++) {
+            checkCollisions(model);
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        int hits = checkCollisions(model);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(hits > 0, "the character never touched anything");
+        assertEquals(0, allocated, "bytes allocated by the collision checks");
+    }
+
+    @Test
+    void lineOfSightDoesNotAllocate() {
+        MazeModel model = new MazeModel(maze());
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threads.isThreadAllocatedMemorySupported(), "the JVM does not count allocated bytes");
+
+        for (int round = 0; round < 5; round++) {
+            lookFromEveryTile(model.getLineOfSight());
+        }
+
+        // A new LineOfSight, so its cache has to be created large enough for all tiles in range
+        LineOfSight lineOfSight = new LineOfSight(model.getWallManager(), MazeModel.SIGHT_RANGE);
+        long before = threads.getCurrentThreadAllocatedBytes();
+        int visible = lookFromEveryTile(lineOfSight);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(visible > 0, "the character was never seen");
+        assertEquals(0, allocated, "bytes allocated by the line of sight checks");
+    }
+
+    /**
+     * Runs the collision checks of a step at every position of the character in the maze.
+     *
+     * @param model the game.
+     * @return the number of collisions found.
+     */
+    private static int checkCollisions(MazeModel model) {
+        Character character = model.getCharacter();
+        WallManager wallManager = model.getWallManager();
+        InteractionIndex interactions = model.getInteractions();
+        LineOfSight lineOfSight = model.getLineOfSight();
+        List<Enemy> enemies = model.getEnemies();
+        int hits = 0;
+        for (int y = 0; y < SIZE * 64; y += STEP) {
+            for (int x = 0; x < SIZE * 64; x += STEP) {
+                character.setX(x);
+                character.setY(y);
+                lineOfSight.update(x, y);
+                interactions.query(character);
+                hits += interactions.getHitCount();
+                if (wallManager.wallCollision(x, y)) {
+                    hits++;
+                }
+                // Indexed loop, an iterator would be an allocation of its own
+                for (int i = 0; i < enemies.size(); i++) {
+                    Enemy enemy = enemies.get(i);
+                    if (character.detectCollision(enemy.getX(), enemy.getY())) {
+                        hits++;
+                    }
+                    if (lineOfSight.canSeeTarget(enemy.getX(), enemy.getY())) {
+                        hits++;
+                    }
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Moves the character over every tile of the maze and looks at it from every tile in
+     * sight range, so the cache of the LineOfSight is as full as it can get.
+     *
+     * @param lineOfSight the sight of the enemies.
+     * @return the number of tiles the character was seen from.
+     */
+    private static int lookFromEveryTile(LineOfSight lineOfSight) {
+        int range = MazeModel.SIGHT_RANGE;
+        int visible = 0;
+        for (int tileY = 0; tileY < SIZE; tileY++) {
+            for (int tileX = 0; tileX < SIZE; tileX++) {
+                lineOfSight.update(tileX * 64, tileY * 64);
+                for (int y = Math.max(tileY - range, 0); y <= Math.min(tileY + range, SIZE - 1); y++) {
+                    for (int x = Math.max(tileX - range, 0); x <= Math.min(tileX + range, SIZE - 1); x++) {
+                        if (lineOfSight.canSeeTarget(x * 64, y * 64)) {
+                            visible++;
+                        }
+                    }
+                }
+            }
+        }
+        return visible;
+    }
+
+    /**
+     * Builds a maze with walls around it and a grid of wall pillars inside, with enemies,
+     * traps and a key spread over the roads.
+     *
+     * @return the cells of the maze.
+     */
+    private static MazeGrid maze() {
+        MazeGrid grid = new MazeGrid(SIZE, SIZE);
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                if (x == 0 || y == 0 || x == SIZE - 1 || y == SIZE - 1 || (x % 4 == 0 && y % 4 == 0)) {
+                    grid.set(x, y, (byte) 0); // wall
+                } else if (x % 6 == 2 && y % 5 == 1) {
+                    grid.set(x, y, (byte) 4); // enemy
+                } else if (x % 9 == 3 && y % 7 == 3) {
+                    grid.set(x, y, (byte) 3); // trap
+                }
+            }
+        }
+        grid.set(1, 1, (byte) 1); // entry point
+        grid.set(SIZE - 1, SIZE / 2, (byte) 2); // exit
+        grid.set(SIZE - 3, SIZE - 3, (byte) 5); // key
+        return grid;
+    }
+}
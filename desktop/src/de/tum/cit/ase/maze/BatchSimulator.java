@@ -0,0 +1,266 @@
+package de.tum.cit.ase.maze;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The BatchSimulator class plays many games of one maze without a window, to tune the
+ * difficulty from data instead of playtesting. Every game runs its own MazeModel at
+ * full speed on one of the worker threads, with a PlayerPolicy instead of the keyboard.
+ * Afterwards it reports the win rate, the simulated ticks per second and the
+ * distributions of the time until the character is hit first and until it is caught.
+ * Usage:
+ * BatchSimulator &lt;maze file&gt; [--games=N] [--threads=N] [--policy=seek|random] [--max-time=SECONDS]
+ * [--tick-rate=N] [--enemy-power=F] [--enemy-speed=F] [--seed=N]
+ */
+public class BatchSimulator {
+
+	/**
+	 * How a simulated game ended.
+	 */
+	private enum Outcome {
+		WON, LOST, TIMED_OUT
+	}
+
+	/**
+	 * Result of one simulated game.
+	 */
+	private static final class GameResult {
+		private final Outcome outcome;
+		private final int steps; // Simulation steps until the game ended
+		private final int firstHitStep; // Step of the first hit by an enemy or trap, -1 if never hit
+
+		private GameResult(Outcome outcome, int steps, int firstHitStep) {
+			this.outcome = outcome;
+			this.steps = steps;
+			this.firstHitStep = firstHitStep;
+		}
+	}
+
+	private final MazeGrid map; // Shared by all games, only read by the MazeModels
+	private final String policy;
+	private final int tickRate;
+	private final int maxSteps;
+	private final float enemyPower;
+	private final float enemySpeed;
+	private final long seed;
+
+	/**
+	 * Constructor for BatchSimulator.
+	 *
+	 * @param map        cells of the simulated maze.
+	 * @param policy     "seek" or "random", the PlayerPolicy moving the character.
+	 * @param tickRate   simulation steps per simulated second.
+	 * @param maxTime    simulated seconds after which a game counts as timed out.
+	 * @param enemyPower share of the time the enemies move, see MazeModel.
+	 * @param enemySpeed base speed of the enemies in pixels per second.
+	 * @param seed       seed of the games and random policies, game i uses seed + i.
+	 */
+	public BatchSimulator(MazeGrid map, String policy, int tickRate, float maxTime, float enemyPower, float enemySpeed, long seed) {
+		if (!policy.equals("seek") && !policy.equals("random")) {
+			throw new IllegalArgumentException("Unknown policy: " + policy);
+		}
+		this.map = map;
+		this.policy = policy;
+		this.tickRate = tickRate;
+		this.maxSteps = Math.round(maxTime * tickRate);
+		this.enemyPower = enemyPower;
+		this.enemySpeed = enemySpeed;
+		this.seed = seed;
+	}
+
+	/**
+	 * Plays one game until it is won, lost or timed out.
+	 *
+	 * @param game number of the game, used for its random seed.
+	 * @return the result of the game.
+	 */
+	private GameResult play(int game) {
+		MazeModel model = new MazeModel(map, seed + game, enemyPower);
+		model.setEnemySpeed(enemySpeed);
+		PlayerPolicy player = policy.equals("seek")
+				? new SeekPlayerPolicy(model)
+				: new RandomPlayerPolicy(new Random(seed + game), 0.5f);
+
+		int[] step = {0};
+		int[] firstHitStep = {-1};
+		model.setListener(event -> {
+			if ((event == GameEvent.HIT || event == GameEvent.GAME_OVER) && firstHitStep[0] < 0) {
+				firstHitStep[0] = step[0];
+			}
+		});
+
+		float delta = 1f / tickRate;
+		InputState input = new InputState();
+		while (!model.isGameOver() && step[0] < maxSteps) {
+			input.setButtons(player.nextButtons(model, delta));
+			model.step(delta, input);
+			step[0]++;
+		}
+
+		Outcome outcome = model.isGameWon() ? Outcome.WON : model.isGameLost() ? Outcome.LOST : Outcome.TIMED_OUT;
+		return new GameResult(outcome, step[0], firstHitStep[0]);
+	}
+
+	/**
+	 * Plays the given number of games on a pool of worker threads, one game per task.
+	 *
+	 * @param games   number of games.
+	 * @param threads number of worker threads.
+	 * @return the results in the order of the games.
+	 * @throws InterruptedException If the waiting for the workers is interrupted.
+	 * @throws ExecutionException   If a game failed.
+	 */
+	private List<GameResult> run(int games, int threads) throws InterruptedException, ExecutionException {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<GameResult>> futures = new ArrayList<>(games);
+			for (int game = 0; game < games; game++) {
+				int gameNumber = game;
+				futures.add(executor.submit(() -> play(gameNumber)));
+			}
+			List<GameResult> results = new ArrayList<>(games);
+			for (Future<GameResult> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Prints the win rate and the time distributions of the results.
+	 *
+	 * @param results results of all games.
+	 */
+	private void report(List<GameResult> results) {
+		int[] outcomes = new int[Outcome.values().length];
+		List<Integer> firstHitSteps = new ArrayList<>();
+		List<Integer> lostSteps = new ArrayList<>();
+		List<Integer> wonSteps = new ArrayList<>();
+		for (GameResult result : results) {
+			outcomes[result.outcome.ordinal()]++;
+			if (result.firstHitStep >= 0) {
+				firstHitSteps.add(result.firstHitStep);
+			}
+			if (result.outcome == Outcome.LOST) {
+				lostSteps.add(result.steps);
+			} else if (result.outcome == Outcome.WON) {
+				wonSteps.add(result.steps);
+			}
+		}
+
+		for (Outcome outcome : Outcome.values()) {
+			System.out.printf(Locale.ROOT, "%-10s %6d games (%5.1f%%)%n", outcome, outcomes[outcome.ordinal()],
+					100.0 * outcomes[outcome.ordinal()] / results.size());
+		}
+		printDistribution("Time to first hit", firstHitSteps, results.size());
+		printDistribution("Time to capture", lostSteps, results.size());
+		printDistribution("Time to win", wonSteps, results.size());
+	}
+
+	/**
+	 * Prints percentiles of simulated times, given in steps.
+	 *
+	 * @param name  name of the distribution.
+	 * @param steps the times in simulation steps.
+	 * @param games number of all games.
+	 */
+	private void printDistribution(String name, List<Integer> steps, int games) {
+		if (steps.isEmpty()) {
+			System.out.printf(Locale.ROOT, "%-18s never%n", name + ":");
+			return;
+		}
+		int[] sorted = steps.stream().mapToInt(Integer::intValue).toArray();
+		Arrays.sort(sorted);
+		System.out.printf(Locale.ROOT, "%-18s p10 %7.1fs  p50 %7.1fs  p90 %7.1fs  max %7.1fs  (%d of %d games)%n",
+				name + ":", percentile(sorted, 0.1), percentile(sorted, 0.5), percentile(sorted, 0.9),
+				(float) sorted[sorted.length - 1] / tickRate, sorted.length, games);
+	}
+
+	/**
+	 * Returns a percentile of sorted steps in simulated seconds (nearest rank).
+	 *
+	 * @param sorted the steps, sorted ascending.
+	 * @param p      the percentile between 0 and 1.
+	 * @return the percentile in seconds.
+	 */
+	private float percentile(int[] sorted, double p) {
+		int rank = (int) Math.ceil(p * sorted.length);
+		return (float) sorted[Math.max(rank - 1, 0)] / tickRate;
+	}
+
+
+	/**
+	 * Runs the batch simulation from the command line, see the class description.
+	 *
+	 * @param args maze file followed by the options.
+	 * @throws IOException          If the maze file cannot be read.
+	 * @throws InterruptedException If the simulation is interrupted.
+	 * @throws ExecutionException   If a game failed.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+		if (args.length == 0) {
+			System.err.println("Usage: BatchSimulator <maze file> [--games=N] [--threads=N] [--policy=seek|random]"
+					+ " [--max-time=SECONDS] [--tick-rate=N] [--enemy-power=F] [--enemy-speed=F] [--seed=N]");
+			return;
+		}
+
+		int games = 1000;
+		int threads = Runtime.getRuntime().availableProcessors();
+		String policy = "seek";
+		float maxTime = 300;
+		int tickRate = FixedTimestep.DEFAULT_TICK_RATE;
+		float enemyPower = Enemy.DEFAULT_POWER;
+		float enemySpeed = 180;
+		long seed = 0;
+		for (int i = 1; i < args.length; i++) {
+			String arg = args[i];
+			String value = arg.substring(arg.indexOf('=') + 1);
+			if (arg.startsWith("--games=")) {
+				games = Integer.parseInt(value);
+			} else if (arg.startsWith("--threads=")) {
+				threads = Integer.parseInt(value);
+			} else if (arg.startsWith("--policy=")) {
+				policy = value;
+			} else if (arg.startsWith("--max-time=")) {
+				maxTime = Float.parseFloat(value);
+			} else if (arg.startsWith("--tick-rate=")) {
+				tickRate = Integer.parseInt(value);
+			} else if (arg.startsWith("--enemy-power=")) {
+				enemyPower = Float.parseFloat(value);
+			} else if (arg.startsWith("--enemy-speed=")) {
+				enemySpeed = Float.parseFloat(value);
+			} else if (arg.startsWith("--seed=")) {
+				seed = Long.parseLong(value);
+			} else {
+				throw new IllegalArgumentException("Unknown option: " + arg);
+			}
+		}
+
+		BatchSimulator simulator = new BatchSimulator(MazeLoader.load(args[0]), policy, tickRate, maxTime, enemyPower, enemySpeed, seed);
+		System.out.printf(Locale.ROOT, "%s: %d games on %d threads, policy %s, %d ticks/s, enemy power %.2f, enemy speed %.0f%n",
+				args[0], games, threads, policy, tickRate, enemyPower, enemySpeed);
+
+		long start = System.nanoTime();
+		List<GameResult> results = simulator.run(games, threads);
+		double seconds = (System.nanoTime() - start) / 1e9;
+
+		long ticks = 0;
+		for (GameResult result : results) {
+			ticks += result.steps;
+		}
+		System.out.printf(Locale.ROOT, "%d ticks in %.2f s: %.0f ticks/s (%.0f per thread)%n",
+				ticks, seconds, ticks / seconds, ticks / seconds / threads);
+		simulator.report(results);
+	}
+}
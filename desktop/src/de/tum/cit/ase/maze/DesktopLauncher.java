@@ -5,6 +5,8 @@
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 import games.spooky.gdx.nativefilechooser.desktop.DesktopFileChooser;
 
+import java.io.File;
+
 /**
  * The DesktopLauncher class is the entry point for the desktop version of the Maze Runner game.
  * It sets up the game window and launches the game using LibGDX framework.
@@ -13,7 +15,8 @@ public class DesktopLauncher {
 	/**
 	 * The main method sets up the configuration for the game window and starts the application.
 	 *
-	 * @param arg Command line arguments (not used in this application)
+	 * @param arg Command line arguments, "--tick-rate=N" sets the simulation steps per second (default 120),
+	 *            "--record-replays=DIR" saves a replay of every game into the directory
 	 */
 	public static void main(String[] arg) {
 		// Configuration for the game window
@@ -31,7 +34,18 @@ public static void main(String[] arg) {
 		config.setForegroundFPS(60); // Set the foreground frames per second
 		// TODO: Add sound effects here
 
+		MazeRunnerGame game = new MazeRunnerGame(new DesktopFileChooser());
+		for (String option : arg) {
+			if (option.startsWith("--tick-rate=")) {
+				game.setTickRate(Integer.parseInt(option.substring("--tick-rate=".length())));
+			} else if (option.startsWith("--record-replays=")) {
+				File replayDirectory = new File(option.substring("--record-replays=".length()));
+				replayDirectory.mkdirs();
+				game.setReplayDirectory(replayDirectory.getPath());
+			}
+		}
+
 		// Launch the game
-		new Lwjgl3Application(new MazeRunnerGame(new DesktopFileChooser()), config);
+		new Lwjgl3Application(game, config);
 	}
 }
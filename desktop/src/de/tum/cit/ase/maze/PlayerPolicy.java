@@ -0,0 +1,31 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * The PlayerPolicy interface replaces the keyboard in batch simulations. It is asked for
+ * the movement buttons before every simulation step of one game.
+ */
+public interface PlayerPolicy {
+	/**
+	 * Chooses the movement buttons for the next simulation step.
+	 *
+	 * @param model the game state before the step.
+	 * @param delta the time in seconds the step advances the game.
+	 * @return bitmask of the pressed InputState buttons.
+	 */
+	int nextButtons(MazeModel model, float delta);
+
+	/**
+	 * Converts a movement direction into the matching button.
+	 *
+	 * @param direction 0 left, 1 right, 2 up, 3 down.
+	 * @return the InputState button.
+	 */
+	static int button(int direction) {
+		return switch (direction) {
+			case 0 -> InputState.LEFT;
+			case 1 -> InputState.RIGHT;
+			case 2 -> InputState.UP;
+			default -> InputState.DOWN;
+		};
+	}
+}
@@ -0,0 +1,36 @@
+package de.tum.cit.ase.maze;
+
+import java.util.Random;
+
+/**
+ * The RandomPlayerPolicy walks in a random direction and chooses a new one every
+ * holdTime seconds, like a player who does not know the maze at all.
+ */
+public class RandomPlayerPolicy implements PlayerPolicy {
+
+	private final Random random;
+	private final float holdTime; // Seconds until another direction is chosen
+	private float remainingTime; // Seconds until the next direction change
+	private int buttons;
+
+	/**
+	 * Constructor for RandomPlayerPolicy.
+	 *
+	 * @param random   the random generator choosing the directions.
+	 * @param holdTime seconds the character walks in the same direction.
+	 */
+	public RandomPlayerPolicy(Random random, float holdTime) {
+		this.random = random;
+		this.holdTime = holdTime;
+	}
+
+	@Override
+	public int nextButtons(MazeModel model, float delta) {
+		remainingTime -= delta;
+		if (remainingTime <= 0) {
+			buttons = PlayerPolicy.button(random.nextInt(4));
+			remainingTime = holdTime;
+		}
+		return buttons;
+	}
+}
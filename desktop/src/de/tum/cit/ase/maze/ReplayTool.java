@@ -0,0 +1,124 @@
+package de.tum.cit.ase.maze;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The ReplayTool class simulates a recorded game again without a window and checks that
+ * it ends in exactly the recorded state. By default, the game runs as fast as possible
+ * and the slowest steps are reported, to find performance spikes. With --trace, the
+ * state of every step in the given range is printed, to follow a bug frame by frame.
+ * With --parallel, the enemies are moved on all cores, which must not change the result.
+ * Usage:
+ * ReplayTool &lt;replay file&gt; &lt;maze file&gt; [--trace=FIRST-LAST] [--parallel]
+ */
+public class ReplayTool {
+
+	private static final int SLOWEST_STEPS = 10; // Number of reported slowest steps
+
+	/**
+	 * Simulates the replay from the command line, see the class description.
+	 *
+	 * @param args replay file, maze file and options.
+	 * @throws IOException If the replay or maze file cannot be read.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Usage: ReplayTool <replay file> <maze file> [--trace=FIRST-LAST] [--parallel]");
+			return;
+		}
+		int traceFirst = -1;
+		int traceLast = -1;
+		boolean parallel = false;
+		for (int i = 2; i < args.length; i++) {
+			if (args[i].startsWith("--trace=")) {
+				String[] range = args[i].substring("--trace=".length()).split("-");
+				traceFirst = Integer.parseInt(range[0]);
+				traceLast = range.length > 1 ? Integer.parseInt(range[1]) : traceFirst;
+			} else if (args[i].equals("--parallel")) {
+				parallel = true;
+			} else {
+				throw new IllegalArgumentException("Unknown option: " + args[i]);
+			}
+		}
+
+		Replay replay = Replay.read(args[0]);
+		ReplayPlayer player = new ReplayPlayer(replay, MazeLoader.load(args[1]));
+		MazeModel model = player.getModel();
+		if (parallel) {
+			model.setEnemyPool(ForkJoinPool.commonPool());
+		}
+		System.out.printf(Locale.ROOT, "%s: %d steps (%.1f s) at %d ticks/s, seed %d%n", args[0], replay.getStepCount(),
+				(float) replay.getStepCount() / replay.getTickRate(), replay.getTickRate(), replay.getSeed());
+
+		long[] stepNanos = new long[replay.getStepCount()];
+		long start = System.nanoTime();
+		while (!player.isFinished()) {
+			int step = player.getStep();
+			long stepStart = System.nanoTime();
+			player.step();
+			stepNanos[step] = System.nanoTime() - stepStart;
+
+			if (step >= traceFirst && step <= traceLast) {
+				Character character = model.getCharacter();
+				System.out.printf(Locale.ROOT, "step %6d  buttons %s  character %8.2f %8.2f  lives %d  keys %d  enemies %s%n",
+						step, buttonNames(player.getInputState()), character.getX(), character.getY(),
+						character.getCharacterLives(), character.getNumKeys(), enemyPositions(model));
+			}
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+
+		System.out.printf(Locale.ROOT, "Simulated in %.3f s: %.0f ticks/s, %s%n", seconds, replay.getStepCount() / seconds,
+				model.isGameWon() ? "won" : model.isGameLost() ? "lost" : "not finished");
+		printSlowestSteps(stepNanos);
+
+		if (player.verify()) {
+			System.out.println("Final state matches the recording.");
+		} else {
+			System.out.println("Final state differs from the recording!");
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Prints the slowest simulated steps.
+	 *
+	 * @param stepNanos simulation time of every step in nanoseconds.
+	 */
+	private static void printSlowestSteps(long[] stepNanos) {
+		Integer[] steps = new Integer[stepNanos.length];
+		for (int i = 0; i < steps.length; i++) {
+			steps[i] = i;
+		}
+		Arrays.sort(steps, (a, b) -> Long.compare(stepNanos[b], stepNanos[a]));
+		System.out.println("Slowest steps:");
+		for (int i = 0; i < Math.min(SLOWEST_STEPS, steps.length); i++) {
+			System.out.printf(Locale.ROOT, "  step %6d  %8.3f ms%n", steps[i], stepNanos[steps[i]] / 1e6);
+		}
+	}
+
+	/**
+	 * Returns the pressed buttons as text, e.g. "L-U-", for the trace.
+	 */
+	private static String buttonNames(InputState inputState) {
+		return (inputState.isPressed(InputState.LEFT) ? "L" : "-") + (inputState.isPressed(InputState.RIGHT) ? "R" : "-")
+				+ (inputState.isPressed(InputState.UP) ? "U" : "-") + (inputState.isPressed(InputState.DOWN) ? "D" : "-");
+	}
+
+	/**
+	 * Returns the positions of the first enemies as text for the trace.
+	 */
+	private static String enemyPositions(MazeModel model) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < Math.min(model.getEnemies().size(), 4); i++) {
+			Enemy enemy = model.getEnemies().get(i);
+			text.append(String.format(Locale.ROOT, "(%.2f %.2f) ", enemy.getX(), enemy.getY()));
+		}
+		if (model.getEnemies().size() > 4) {
+			text.append("...");
+		}
+		return text.toString();
+	}
+}
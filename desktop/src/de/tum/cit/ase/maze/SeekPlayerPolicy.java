@@ -0,0 +1,49 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * The SeekPlayerPolicy walks along the shortest path to the closest remaining key and,
+ * once all keys are collected, to the closest exit. It ignores the enemies, so it
+ * shows how fast a maze can be solved and how often the enemies get in the way.
+ * The paths are found with its own FlowField, targeting the key or exit instead of
+ * the character.
+ */
+public class SeekPlayerPolicy implements PlayerPolicy {
+
+	private final FlowField flowField; // Directions towards the current target
+	private int direction = 1; // Last chosen direction, kept while no path is known
+
+	/**
+	 * Constructor for SeekPlayerPolicy.
+	 *
+	 * @param model the game the policy plays.
+	 */
+	public SeekPlayerPolicy(MazeModel model) {
+		flowField = new FlowField(model.getWallManager());
+	}
+
+	@Override
+	public int nextButtons(MazeModel model, float delta) {
+		Character character = model.getCharacter();
+		CoordinateArray keys = model.getKey().getKeys();
+		CoordinateArray targets = keys.isEmpty() ? model.getExit().getExits() : keys;
+		if (targets.isEmpty()) {
+			return 0;
+		}
+
+		// Closest target by the Manhattan distance
+		int closest = 0;
+		float closestDistance = Float.MAX_VALUE;
+		for (int i = 0; i < targets.size(); i++) {
+			float distance = Math.abs(targets.getX(i) - character.getX()) + Math.abs(targets.getY(i) - character.getY());
+			if (distance < closestDistance) {
+				closest = i;
+				closestDistance = distance;
+			}
+		}
+
+		// Only searches again if the target changed
+		flowField.update(targets.getX(closest), targets.getY(closest));
+		direction = flowField.steer(character.getX(), character.getY(), direction);
+		return PlayerPolicy.button(direction);
+	}
+}